@@ -0,0 +1,148 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luoka.commons.ArrayUtil;
+import com.luoka.commons.IntArrays;
+import com.luoka.commons.LookupSet;
+import com.luoka.commons.PrefixMatcher;
+
+/**
+ * {@link ArrayUtil}和{@link IntArrays}的基准测试, 按数组长度分别测量以观察复杂度.
+ * @since zengqingmeng @ Oct 18, 2026 7:20:36 PM
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayUtilBenchmark {
+
+	@Param({ "16", "1024", "16384" })
+	public int size;
+
+	private int[] a;
+
+	private int[] b;
+
+	private int[] shuffled;
+
+	private String[] strings;
+
+	private Integer[] boxed;
+
+	private String[] prefixes;
+
+	private PrefixMatcher prefixMatcher;
+
+	private LookupSet<Integer> lookupSet;
+
+	@Setup
+	public void setUp() {
+		a = Corpus.ints(size, size * 2);
+		b = Corpus.ints(size + 1, size * 2);
+		b = Arrays.copyOfRange(b, 1, b.length);
+		shuffled = a.clone();
+		for (int i = shuffled.length - 1; i > 0; i--) {
+			int j = (i * 31) % (i + 1);
+			int tmp = shuffled[i];
+			shuffled[i] = shuffled[j];
+			shuffled[j] = tmp;
+		}
+		strings = new String[size];
+		boxed = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			strings[i] = String.valueOf(a[i]);
+			boxed[i] = a[i];
+		}
+		prefixes = new String[Math.min(size, 256)];
+		for (int i = 0; i < prefixes.length; i++) {
+			prefixes[i] = "/api/v" + i + "/";
+		}
+		prefixMatcher = PrefixMatcher.compile(prefixes);
+		lookupSet = LookupSet.of(boxed);
+	}
+
+	@Benchmark
+	public boolean compareArrayValue() {
+		return ArrayUtil.compareArrayValue(a, shuffled);
+	}
+
+	@Benchmark
+	public int[] getArrayValuesExceeded() {
+		return ArrayUtil.getArrayValuesExceeded(a, b);
+	}
+
+	@Benchmark
+	public int[] difference() {
+		return IntArrays.difference(a, b);
+	}
+
+	@Benchmark
+	public int[] intersection() {
+		return IntArrays.intersection(a, b);
+	}
+
+	@Benchmark
+	public int[] toIntArray() {
+		return ArrayUtil.toIntArray(strings);
+	}
+
+	@Benchmark
+	public Integer[] toIntegerArray() {
+		return ArrayUtil.toIntegerArray(a);
+	}
+
+	@Benchmark
+	public boolean contain() {
+		return ArrayUtil.contain(boxed, -1);
+	}
+
+	@Benchmark
+	public boolean lookupSetContains() {
+		return lookupSet.contains(-1);
+	}
+
+	@Benchmark
+	public boolean equalsIgnoreOrder() {
+		return ArrayUtil.equalsIgnoreOrder(strings, strings.clone());
+	}
+
+	@Benchmark
+	public boolean equalsIgnoreOrderOfInts() {
+		return ArrayUtil.equalsIgnoreOrder(a, shuffled);
+	}
+
+	@Benchmark
+	public boolean prefixMatch() {
+		return ArrayUtil.prefixMatch(prefixes, "/api/v" + (prefixes.length - 1) + "/users");
+	}
+
+	@Benchmark
+	public boolean prefixMatcher() {
+		return prefixMatcher.matches("/api/v" + (prefixes.length - 1) + "/users");
+	}
+
+	@Benchmark
+	public String toStringOfInts() {
+		return ArrayUtil.toString(a);
+	}
+}
@@ -0,0 +1,36 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口, 默认附带GC分析器以输出每次调用的内存分配量(gc.alloc.rate.norm). <BR>
+ * 接受JMH的全部命令行参数, 例如:
+ * <pre>
+ * java -jar target/benchmarks.jar DateUtilBenchmark -t 8
+ * java -jar target/benchmarks.jar StringHelperBenchmark.split -rf json -rff split.json
+ * </pre>
+ * @since zengqingmeng @ Oct 18, 2026 7:20:36 PM
+ *
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException,
+			CommandLineOptionException {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		Options options = new OptionsBuilder().parent(commandLine)
+				.addProfiler(GCProfiler.class).build();
+		new Runner(options).run();
+	}
+}
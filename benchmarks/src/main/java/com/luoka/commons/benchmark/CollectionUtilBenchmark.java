@@ -0,0 +1,107 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.luoka.commons.CollectionUtil;
+
+/**
+ * {@link CollectionUtil}的基准测试, 按列表长度分别测量以观察复杂度.
+ * @since zengqingmeng @ Oct 18, 2026 7:20:36 PM
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollectionUtilBenchmark {
+
+	@Param({ "16", "1024", "16384" })
+	public int size;
+
+	private List<Integer> list;
+
+	private List<Integer> shuffled;
+
+	private List<String> markedLines;
+
+	private List<String> lines;
+
+	@Setup
+	public void setUp() {
+		int[] ints = Corpus.ints(size, size * 2);
+		list = CollectionUtil.toCollection(ints);
+		shuffled = new ArrayList<Integer>(list);
+		Collections.reverse(shuffled);
+		markedLines = Corpus.markedLines(size);
+		lines = new ArrayList<String>(size);
+		for (int i = 0; i < size; i++) {
+			lines.add("line " + i);
+		}
+	}
+
+	@Benchmark
+	public boolean equalsRegardlessOfOrder() {
+		return CollectionUtil.equalsRegardlessOfOrder(list, shuffled);
+	}
+
+	@Benchmark
+	public boolean equalsRegardlessOfOrderAsMultiset() {
+		return CollectionUtil.equalsRegardlessOfOrder(list, shuffled,
+				CollectionUtil.COMPARE_AS_MULTISET);
+	}
+
+	@Benchmark
+	public List<List<String>> popAllSubList() {
+		// 该方法会修改原列表, 每次在副本上执行
+		return CollectionUtil.popAllSubList(new ArrayList<String>(markedLines),
+				"BEGIN", "END");
+	}
+
+	@Benchmark
+	public int popAllSubListToConsumer(final Blackhole blackhole) {
+		return CollectionUtil.popAllSubList(new ArrayList<String>(markedLines),
+				"BEGIN", "END", new Consumer<List<String>>() {
+					@Override
+					public void accept(List<String> subList) {
+						blackhole.consume(subList);
+					}
+				});
+	}
+
+	@Benchmark
+	public String lastSublines() {
+		return CollectionUtil.lastSublines(lines, 100);
+	}
+
+	@Benchmark
+	public String toStringOfList() {
+		return CollectionUtil.toString(list);
+	}
+
+	@Benchmark
+	public List<Integer> toCollection() {
+		return CollectionUtil.toCollection(new int[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+	}
+}
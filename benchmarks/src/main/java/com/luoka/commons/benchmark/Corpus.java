@@ -0,0 +1,269 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 基准测试使用的输入语料, 模拟线上常见的URL、CSV行、时间戳等. <BR>
+ * 所有语料由固定种子生成, 保证每次运行的输入相同, 结果可以相互比较.
+ * @since zengqingmeng @ Oct 18, 2026 7:20:36 PM
+ *
+ */
+public final class Corpus {
+
+	/**
+	 * 各语料的默认条数, 取2的幂以便用位运算循环取值.
+	 */
+	public static final int SIZE = 1024;
+
+	public static final int MASK = SIZE - 1;
+
+	private static final long SEED = 20140403L;
+
+	private static final String[] HOSTS = { "www.luoka.com", "img.cdn.luoka.com.cn",
+			"api.example.org", "m.news.sina.com.cn", "localhost", "10.3.12.201",
+			"static.s3.amazonaws.com", "bbs.tianya.cn" };
+
+	private static final String[] PATHS = { "/", "/index.html", "/api/v2/users",
+			"/news/2014/04/03/detail.shtml", "/search", "/static/js/app.min.js",
+			"/video/play", "/a/b/c/d/e/f" };
+
+	private static final String[] PARAMS = { "id", "page", "size", "q", "from",
+			"token", "lang", "ts", "sort", "callback" };
+
+	private static final String[] WORDS = { "luoka", "utils", "北京", "hello world",
+			"a&b=c", "100%", "测试", "x", "commons", "2014-04-03" };
+
+	private Corpus() {
+	}
+
+	private static Random random() {
+		return new Random(SEED);
+	}
+
+	/**
+	 * @return 带0至6个查询参数的URL
+	 */
+	public static String[] urls() {
+		Random random = random();
+		String[] result = new String[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			StringBuilder sb = new StringBuilder(128);
+			sb.append(random.nextInt(4) == 0 ? "https://" : "http://");
+			sb.append(HOSTS[random.nextInt(HOSTS.length)]);
+			if (random.nextInt(5) == 0) {
+				sb.append(':').append(8000 + random.nextInt(100));
+			}
+			sb.append(PATHS[random.nextInt(PATHS.length)]);
+			int params = random.nextInt(7);
+			for (int j = 0; j < params; j++) {
+				sb.append((j == 0) ? '?' : '&');
+				sb.append(PARAMS[random.nextInt(PARAMS.length)]).append('=');
+				sb.append(random.nextInt(100000));
+			}
+			result[i] = sb.toString();
+		}
+		return result;
+	}
+
+	/**
+	 * @return 主机名
+	 */
+	public static String[] hosts() {
+		Random random = random();
+		String[] result = new String[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			result[i] = HOSTS[random.nextInt(HOSTS.length)];
+		}
+		return result;
+	}
+
+	/**
+	 * @return 需要URL编码的文本
+	 */
+	public static String[] texts() {
+		Random random = random();
+		String[] result = new String[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			StringBuilder sb = new StringBuilder();
+			int words = 1 + random.nextInt(5);
+			for (int j = 0; j < words; j++) {
+				if (j > 0) {
+					sb.append(' ');
+				}
+				sb.append(WORDS[random.nextInt(WORDS.length)]);
+			}
+			result[i] = sb.toString();
+		}
+		return result;
+	}
+
+	/**
+	 * @return 8至20列、以逗号分隔的CSV行, 字段两侧有时带空格
+	 */
+	public static String[] csvLines() {
+		Random random = random();
+		String[] result = new String[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			StringBuilder sb = new StringBuilder(256);
+			int columns = 8 + random.nextInt(13);
+			for (int j = 0; j < columns; j++) {
+				if (j > 0) {
+					sb.append(',');
+				}
+				if (random.nextInt(4) == 0) {
+					sb.append(' ');
+				}
+				switch (random.nextInt(4)) {
+				case 0:
+					sb.append(random.nextInt(1000000));
+					break;
+				case 1:
+					sb.append(WORDS[random.nextInt(WORDS.length)]);
+					break;
+				case 2:
+					sb.append("2014-04-0").append(1 + random.nextInt(9));
+					break;
+				default:
+					break;
+				}
+			}
+			result[i] = sb.toString();
+		}
+		return result;
+	}
+
+	/**
+	 * @return 以逗号分隔的整数列表
+	 */
+	public static String[] intLists() {
+		Random random = random();
+		String[] result = new String[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			StringBuilder sb = new StringBuilder();
+			int count = 1 + random.nextInt(32);
+			for (int j = 0; j < count; j++) {
+				if (j > 0) {
+					sb.append(", ");
+				}
+				sb.append(random.nextInt(100000));
+			}
+			result[i] = sb.toString();
+		}
+		return result;
+	}
+
+	/**
+	 * @return 含若干${name}占位符的模板
+	 */
+	public static String[] templates() {
+		Random random = random();
+		String[] result = new String[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			StringBuilder sb = new StringBuilder(512);
+			int parts = 10 + random.nextInt(30);
+			for (int j = 0; j < parts; j++) {
+				sb.append(WORDS[random.nextInt(WORDS.length)]);
+				sb.append(random.nextInt(3) == 0 ? "\n" : " ");
+				if (random.nextInt(3) == 0) {
+					sb.append("${").append(PARAMS[random.nextInt(PARAMS.length)]).append('}');
+				}
+				if (random.nextInt(8) == 0) {
+					sb.append("<b>");
+				}
+			}
+			result[i] = sb.toString();
+		}
+		return result;
+	}
+
+	/**
+	 * @return 按时间递增的毫秒时间戳, 相邻间隔从几毫秒到几小时不等, 与访问日志类似
+	 */
+	public static long[] timestamps(int count) {
+		Random random = random();
+		long[] result = new long[count];
+		long millis = 1396483200000L;
+		for (int i = 0; i < count; i++) {
+			switch (random.nextInt(4)) {
+			case 0:
+				millis += random.nextInt(10);
+				break;
+			case 1:
+				millis += random.nextInt(1000);
+				break;
+			case 2:
+				millis += random.nextInt(60000);
+				break;
+			default:
+				millis += random.nextInt(3600000);
+				break;
+			}
+			result[i] = millis;
+		}
+		return result;
+	}
+
+	/**
+	 * @return 各种形式的数字字符串, 其中约十分之一不合法
+	 */
+	public static String[] numbers() {
+		Random random = random();
+		String[] result = new String[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			switch (random.nextInt(10)) {
+			case 0:
+				result[i] = "n/a";
+				break;
+			case 1:
+				result[i] = (random.nextInt(100000) / 100.0) + "";
+				break;
+			case 2:
+				result[i] = "-" + random.nextInt(1000);
+				break;
+			default:
+				result[i] = String.valueOf(random.nextInt(Integer.MAX_VALUE));
+				break;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return 取值在[0, bound)内的随机整数数组
+	 */
+	public static int[] ints(int count, int bound) {
+		Random random = random();
+		int[] result = new int[count];
+		for (int i = 0; i < count; i++) {
+			result[i] = random.nextInt(bound);
+		}
+		return result;
+	}
+
+	/**
+	 * @return 元素为字符串的列表, 每隔若干个元素出现一次"BEGIN"..."END"段
+	 */
+	public static List<String> markedLines(int count) {
+		Random random = random();
+		List<String> result = new ArrayList<String>(count);
+		boolean inside = false;
+		for (int i = 0; i < count; i++) {
+			if (!inside && random.nextInt(8) == 0) {
+				result.add("BEGIN");
+				inside = true;
+			} else if (inside && random.nextInt(4) == 0) {
+				result.add("END");
+				inside = false;
+			} else {
+				result.add("line" + i);
+			}
+		}
+		result.add("END");
+		return result;
+	}
+}
@@ -0,0 +1,170 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luoka.commons.DateFormatter;
+import com.luoka.commons.DateUtil;
+
+/**
+ * {@link DateUtil}的基准测试: 格式化、解析、边界计算、当前时间. 带Contended后缀的方法以4个线程并发执行,
+ * 用于观察共享缓存在竞争下的表现.
+ * @since zengqingmeng @ Oct 18, 2026 7:20:36 PM
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateUtilBenchmark {
+
+	private long[] timestamps;
+
+	private String[] dateTimes;
+
+	private String[] looseDates;
+
+	private long[] column;
+
+	private String[] textColumn;
+
+	private int index;
+
+	@Setup
+	public void setUp() {
+		timestamps = Corpus.timestamps(Corpus.SIZE);
+		dateTimes = new String[Corpus.SIZE];
+		looseDates = new String[Corpus.SIZE];
+		for (int i = 0; i < Corpus.SIZE; i++) {
+			dateTimes[i] = DateFormatter.DATE_TIME.format(timestamps[i]);
+			// 月日不补零的日期, 只能走宽松解析
+			looseDates[i] = dateTimes[i].substring(0, 10).replace("-0", "-");
+		}
+		column = Corpus.timestamps(1 << 16);
+		textColumn = new String[column.length];
+		for (int i = 0; i < column.length; i++) {
+			textColumn[i] = DateFormatter.DATE_TIME.format(column[i]);
+		}
+	}
+
+	private int next() {
+		return index++ & Corpus.MASK;
+	}
+
+	@Benchmark
+	public String formatMillis() {
+		return DateUtil.formatMillis(timestamps[next()]);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public String formatMillisContended() {
+		return formatMillis();
+	}
+
+	@Benchmark
+	public String formatMillisWithPattern() {
+		return DateUtil.formatMillis(timestamps[next()], "yyyy/MM/dd HH:mm");
+	}
+
+	@Benchmark
+	@Threads(4)
+	public String formatMillisWithPatternContended() {
+		return formatMillisWithPattern();
+	}
+
+	@Benchmark
+	public String millis2String() {
+		return DateUtil.millis2String(timestamps[next()], "EEE, d MMM yyyy");
+	}
+
+	@Benchmark
+	public long formatDateTime() {
+		return DateUtil.formatDateTime(dateTimes[next()]);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public long formatDateTimeContended() {
+		return formatDateTime();
+	}
+
+	@Benchmark
+	public long formatDate2MillisLenient() {
+		return DateUtil.formatDate2Millis(looseDates[next()]);
+	}
+
+	@Benchmark
+	public long getDateAsMillis() {
+		return DateUtil.getDateAsMillis(dateTimes[next()]);
+	}
+
+	@Benchmark
+	public long getDayStartAsMillis() {
+		return DateUtil.getDayStartAsMillis(timestamps[next()]);
+	}
+
+	@Benchmark
+	public long getWeekStartAsMillis() {
+		return DateUtil.getWeekStartAsMillis(timestamps[next()]);
+	}
+
+	@Benchmark
+	public long getMonthStartAsMillis() {
+		return DateUtil.getMonthStartAsMillis(timestamps[next()]);
+	}
+
+	@Benchmark
+	public long getFirstDayOfMonth() {
+		return DateUtil.getFirstDayOfMonth(timestamps[next()]);
+	}
+
+	@Benchmark
+	public int getYear() {
+		return DateUtil.getYear(timestamps[next()]);
+	}
+
+	@Benchmark
+	public String getCurrentDateTime() {
+		return DateUtil.getCurrentDateTime();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public String getCurrentDateTimeContended() {
+		return DateUtil.getCurrentDateTime();
+	}
+
+	@Benchmark
+	public long getCurrentTimeMillisWithFormat() {
+		return DateUtil.getCurrentTimeMillisWithFormat("yyyy-MM-dd");
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public char[] formatColumn() {
+		return DateUtil.formatMillis(column, '\n');
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public long[] parseColumn() {
+		return DateUtil.formatDateTime(textColumn, DateUtil.INVALID_MILLIS);
+	}
+}
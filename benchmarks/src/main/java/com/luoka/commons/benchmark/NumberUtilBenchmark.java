@@ -0,0 +1,88 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luoka.commons.NumberUtil;
+
+/**
+ * {@link NumberUtil}的基准测试: 解析(含不合法输入)、格式化、舍入.
+ * @since zengqingmeng @ Oct 18, 2026 7:20:36 PM
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NumberUtilBenchmark {
+
+	private String[] numbers;
+
+	private long[] sizes;
+
+	private int index;
+
+	@Setup
+	public void setUp() {
+		numbers = Corpus.numbers();
+		int[] ints = Corpus.ints(Corpus.SIZE, Integer.MAX_VALUE);
+		sizes = new long[Corpus.SIZE];
+		for (int i = 0; i < Corpus.SIZE; i++) {
+			sizes[i] = (long) ints[i] * (i + 1);
+		}
+	}
+
+	private int next() {
+		return index++ & Corpus.MASK;
+	}
+
+	@Benchmark
+	public int parseInt() {
+		return NumberUtil.parseInt(numbers[next()], -1);
+	}
+
+	@Benchmark
+	public long parseLong() {
+		return NumberUtil.parseLong(numbers[next()], -1);
+	}
+
+	@Benchmark
+	public String getSpaceAsUnits() {
+		return NumberUtil.getSpaceAsUnits(sizes[next()], "M", "#.##");
+	}
+
+	@Benchmark
+	public String getFormatFromDouble() {
+		return NumberUtil.getFormatFromDouble(sizes[next()] / 1024.0, "#,##0.00");
+	}
+
+	@Benchmark
+	public double roundHalfUp() {
+		return NumberUtil.roundHalfUp(sizes[next()] / 1000.0, 2);
+	}
+
+	@Benchmark
+	public double dividedAndHalfUp() {
+		return NumberUtil.dividedAndHalfUp((int) sizes[next()], 7, 3);
+	}
+
+	@Benchmark
+	public int getPercentageAsInt() {
+		return NumberUtil.getPercentageAsInt(sizes[next()], Long.MAX_VALUE >> 20);
+	}
+}
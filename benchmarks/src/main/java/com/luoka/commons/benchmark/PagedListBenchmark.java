@@ -0,0 +1,115 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luoka.commons.CompactPagedList;
+import com.luoka.commons.PagedList;
+import com.luoka.commons.PagedListCodec;
+
+/**
+ * {@link PagedList}序列化的基准测试: PagedList的默认Java序列化、{@link CompactPagedList}的紧凑格式Java序列化、
+ * 以及使用专用ElementCodec的{@link PagedListCodec}. 各格式的字节数在准备阶段打印.
+ * @since zengqingmeng @ Oct 18, 2026 11:02:48 PM
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PagedListBenchmark {
+
+	private static final PagedListCodec<String> CODEC = new PagedListCodec<String>(
+			PagedListCodec.STRING);
+
+	private PagedList<String> page;
+
+	private CompactPagedList<String> compactPage;
+
+	private byte[] defaultBytes;
+
+	private byte[] javaBytes;
+
+	private byte[] codecBytes;
+
+	@Setup
+	public void setUp() throws IOException {
+		String[] texts = Corpus.texts();
+		List<String> items = new ArrayList<String>(20);
+		for (int i = 0; i < 20; i++) {
+			items.add(texts[i]);
+		}
+		page = new PagedList<String>(items, 37, 20, 123456);
+		compactPage = new CompactPagedList<String>(page);
+		defaultBytes = serialize(page);
+		javaBytes = serialize(compactPage);
+		codecBytes = CODEC.toBytes(page);
+		System.out.println("\nbytes: default=" + defaultBytes.length + ", compact="
+				+ javaBytes.length + ", codec=" + codecBytes.length);
+	}
+
+	private static byte[] serialize(Object object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(object);
+		out.close();
+		return bytes.toByteArray();
+	}
+
+	private static Object deserialize(byte[] bytes) throws IOException,
+			ClassNotFoundException {
+		return new ObjectInputStream(new ByteArrayInputStream(bytes)).readObject();
+	}
+
+	@Benchmark
+	public byte[] writeDefault() throws IOException {
+		return serialize(page);
+	}
+
+	@Benchmark
+	public Object readDefault() throws IOException, ClassNotFoundException {
+		return deserialize(defaultBytes);
+	}
+
+	@Benchmark
+	public byte[] writeCompact() throws IOException {
+		return serialize(compactPage);
+	}
+
+	@Benchmark
+	public Object readCompact() throws IOException, ClassNotFoundException {
+		return deserialize(javaBytes);
+	}
+
+	@Benchmark
+	public byte[] writeCodec() {
+		return CODEC.toBytes(page);
+	}
+
+	@Benchmark
+	public PagedList<String> readCodec() {
+		return CODEC.fromBytes(codecBytes);
+	}
+}
@@ -0,0 +1,163 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.luoka.commons.Splitter;
+import com.luoka.commons.StringHelper;
+import com.luoka.commons.StringReplacer;
+import com.luoka.commons.ValidatorRegistry;
+
+/**
+ * {@link StringHelper}及相关类的基准测试: 分割、替换、校验.
+ * @since zengqingmeng @ Oct 18, 2026 7:20:36 PM
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringHelperBenchmark {
+
+	private static final Splitter CSV = Splitter.on(",");
+
+	private String[] csvLines;
+
+	private String[] intLists;
+
+	private String[] templates;
+
+	private String[] numbers;
+
+	private String[] hosts;
+
+	private StringReplacer placeholders;
+
+	private final List<String> reusable = new ArrayList<String>();
+
+	private int index;
+
+	@Setup
+	public void setUp() {
+		csvLines = Corpus.csvLines();
+		intLists = Corpus.intLists();
+		templates = Corpus.templates();
+		numbers = Corpus.numbers();
+		hosts = Corpus.hosts();
+		placeholders = StringReplacer.compile("${id}", "10086", "${page}", "3",
+				"${size}", "20", "${q}", "luoka", "${from}", "index", "${token}",
+				"3f9a0c", "${lang}", "zh_CN", "${ts}", "1396483200000", "${sort}",
+				"desc", "${callback}", "jsonp1");
+	}
+
+	private int next() {
+		return index++ & Corpus.MASK;
+	}
+
+	@Benchmark
+	public String[] split() {
+		return StringHelper.split(csvLines[next()], ",");
+	}
+
+	@Benchmark
+	public String[] splitAndTrim() {
+		return StringHelper.splitAndTrim(csvLines[next()], ",");
+	}
+
+	@Benchmark
+	public int splitIntoReusableList() {
+		reusable.clear();
+		return CSV.split(csvLines[next()], reusable);
+	}
+
+	@Benchmark
+	public int splitZeroCopy() {
+		int total = 0;
+		Splitter.Tokens tokens = CSV.tokenize(csvLines[next()]);
+		while (tokens.advance()) {
+			total += tokens.end() - tokens.start();
+		}
+		return total;
+	}
+
+	@Benchmark
+	public int[] split2IntArray() {
+		return StringHelper.split2IntArray(intLists[next()]);
+	}
+
+	@Benchmark
+	public String replaceAll() {
+		return StringHelper.replaceAll(templates[next()], "${id}", "10086");
+	}
+
+	@Benchmark
+	public String replacePlaceholders() {
+		return placeholders.replace(templates[next()]);
+	}
+
+	@Benchmark
+	public String escape() {
+		return StringHelper.escape(templates[next()]);
+	}
+
+	@Benchmark
+	public String replaceEnter2HtmlBr() {
+		return StringHelper.replaceEnter2HtmlBr(templates[next()]);
+	}
+
+	@Benchmark
+	public void validateNumbers(Blackhole bh) {
+		String input = numbers[next()];
+		bh.consume(StringHelper.isNumeric(input));
+		bh.consume(StringHelper.isInteger(input));
+		bh.consume(StringHelper.isPositiveInteger(input));
+		bh.consume(StringHelper.isQQ(input));
+	}
+
+	@Benchmark
+	public void validateHosts(Blackhole bh) {
+		String input = hosts[next()];
+		bh.consume(StringHelper.isIPv4(input));
+		bh.consume(StringHelper.isDomainName(input));
+	}
+
+	@Benchmark
+	public boolean validateThroughRegistry() {
+		return ValidatorRegistry.getDefault().isValid("numeric", numbers[next()]);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public boolean validateThroughRegistryContended() {
+		return validateThroughRegistry();
+	}
+
+	@Benchmark
+	public String join() {
+		return StringHelper.join(StringHelper.split(csvLines[next()], ","), ";");
+	}
+
+	@Benchmark
+	public String truncate() {
+		return StringHelper.truncate(templates[next()], 64);
+	}
+}
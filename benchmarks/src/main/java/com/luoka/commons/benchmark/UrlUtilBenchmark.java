@@ -0,0 +1,142 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons.benchmark;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luoka.commons.ParsedUrl;
+import com.luoka.commons.PercentCodec;
+import com.luoka.commons.UrlUtil;
+
+/**
+ * {@link UrlUtil}的基准测试: 查询参数的增改、编解码、域名截取.
+ * @since zengqingmeng @ Oct 18, 2026 7:20:36 PM
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UrlUtilBenchmark {
+
+	private String[] urls;
+
+	private URL[] parsedUrls;
+
+	private String[] hosts;
+
+	private String[] texts;
+
+	private String[] encodedTexts;
+
+	private final StringBuilder reusable = new StringBuilder(256);
+
+	private int index;
+
+	@Setup
+	public void setUp() throws MalformedURLException {
+		urls = Corpus.urls();
+		hosts = Corpus.hosts();
+		texts = Corpus.texts();
+		parsedUrls = new URL[Corpus.SIZE];
+		encodedTexts = new String[Corpus.SIZE];
+		for (int i = 0; i < Corpus.SIZE; i++) {
+			parsedUrls[i] = new URL(urls[i]);
+			encodedTexts[i] = UrlUtil.encode(texts[i]);
+		}
+	}
+
+	private int next() {
+		return index++ & Corpus.MASK;
+	}
+
+	@Benchmark
+	public String addParam() {
+		return UrlUtil.addParam(urls[next()], "page", 2);
+	}
+
+	@Benchmark
+	public String addOrReplaceParam() {
+		return UrlUtil.addOrReplaceParam(urls[next()], "id", 10086);
+	}
+
+	@Benchmark
+	public String replaceParamValue() {
+		return UrlUtil.replaceParamValue(urls[next()], "page", 3);
+	}
+
+	@Benchmark
+	public boolean paramExists() {
+		return UrlUtil.paramExists(urls[next()], "token");
+	}
+
+	@Benchmark
+	public String encode() {
+		return UrlUtil.encode(texts[next()]);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public String encodeContended() {
+		return encode();
+	}
+
+	@Benchmark
+	public int encodeIntoReusableBuffer() {
+		String text = texts[next()];
+		reusable.setLength(0);
+		return PercentCodec.FORM.encode(text, 0, text.length(), reusable).length();
+	}
+
+	@Benchmark
+	public String decode() {
+		return UrlUtil.decode(encodedTexts[next()]);
+	}
+
+	@Benchmark
+	public String getDomainByLevel() {
+		return UrlUtil.getDomainByLevel(hosts[next()], 2);
+	}
+
+	@Benchmark
+	public String getRegistrableDomain() {
+		return UrlUtil.getRegistrableDomain(hosts[next()]);
+	}
+
+	@Benchmark
+	public String getHost() {
+		return UrlUtil.getHost(parsedUrls[next()]);
+	}
+
+	@Benchmark
+	public String getHostFromString() {
+		return UrlUtil.getHost(urls[next()]);
+	}
+
+	@Benchmark
+	public URL parseUrl() throws MalformedURLException {
+		return new URL(urls[next()]);
+	}
+
+	@Benchmark
+	public ParsedUrl parseUrlOffsets() {
+		return ParsedUrl.parse(urls[next()]);
+	}
+}
@@ -28,7 +28,7 @@ public class ArrayUtil {
 	    }
 	    Integer[] result = new Integer[values.length];
 	    for (int i = 0; i < values.length; i++) {
-	        result[i] = new Integer(values[i]);
+	        result[i] = Integer.valueOf(values[i]);
 	    }
 	    return result;
 	}
@@ -46,7 +46,7 @@ public class ArrayUtil {
 		}
 		Boolean[] result = new Boolean[values.length];
 		for (int i = 0; i < result.length; i++) {
-			result[i] = new Boolean(values[i]);
+			result[i] = Boolean.valueOf(values[i]);
 		}
 		return result;
 	}
@@ -80,26 +80,26 @@ public class ArrayUtil {
 	    if (values == null) {
 	        return null;
 	    }
+		return toIntList(values).toArray();
+	}
 
-	    /*
-		int[] result = new int[values.length];
-	    for (int i = 0; i < values.length; i++) {
+	/**
+	 * 将String数组转换(parseInt)为{@link IntList}, 如果某String parse失败，则跳过该元素.
+	 * 
+	 * @param values
+	 *            String数组
+	 * @return 能够转换为int的值
+	 */
+	public static IntList toIntList(String[] values) {
+		AssertUtil.notNull(values, "values is null.");
+		IntList result = new IntList(values.length);
+		for (int i = 0; i < values.length; i++) {
 			try {
-				result[i] = Integer.parseInt(values[i]);
-			} catch (Exception e) {
-				result[i] = 0;
+				result.add(Integer.parseInt(values[i]));
+			} catch (NumberFormatException e) {
 			}
-	    }
+		}
 		return result;
-		*/
-	    List<Integer> temps = new ArrayList<Integer>();
-	    for (int i = 0; i < values.length; i++) {
-	    	try {
-				temps.add(Integer.valueOf(values[i]));
-			} catch (Exception e) {
-			}
-	    }
-		return toIntArray(temps.toArray(new Integer[0]));
 	}
 
 	/**
@@ -131,8 +131,10 @@ public class ArrayUtil {
 	 */
 	public static int[] toIntArray(List<Integer> list) {
 		int[] intArray = new int[list.size()];
-		for (int i = 0; i < list.size(); i++) {
-			intArray[i] = list.get(i);
+		int i = 0;
+		// 用迭代器遍历, LinkedList也是O(n)
+		for (Integer value : list) {
+			intArray[i++] = value;
 		}
 		return intArray;
 	}
@@ -144,20 +146,8 @@ public class ArrayUtil {
 	 * @return true表示相同，false表示不同
 	 */
 	public static boolean compareArrayValue(int[] a, int[] b) {
-		if ((a.length == b.length) && (a.length != 0)) {
-			for (int i = 0; i < a.length; i++) {
-				boolean flag = false;
-				for (int j = 0; j < b.length; j++) {
-					if (a[i] == b[j])
-						flag = true;
-				}
-				if (flag == false)
-					return false;
-			}
-			return true;
-		}
-		else
-			return false;
+		// 保持原有语义: 长度相同且不为0, 并且a中的值都在b中
+		return (a.length == b.length) && (a.length != 0) && IntArrays.containsAll(b, a);
 	}
 
 	/**
@@ -167,21 +157,21 @@ public class ArrayUtil {
 	 * @return int[]
 	 */
 	public static int[] getArrayValuesExceeded(int[] a, int[] b) {
-		List<Integer> arrayValuesExceededIntegerList = new ArrayList<Integer>();
-		for (int i = 0; i < a.length; i++) {
-			boolean flag = false;
-			for(int j = 0; j < b.length; j ++){
-				if (a[i] == b[j])
-					flag = true;
-			}
-			if(flag == false)
-				arrayValuesExceededIntegerList.add(a[i]);
-		}
-		return toIntArray(arrayValuesExceededIntegerList);
+		return getArrayValuesExceeded(a, IntSet.of(b));
+	}
+
+	/**
+	 * 获取数组A中不在集合B中的值, 保持在A中的顺序(重复的值也保留). 同一个B要与多个数组比较时, 可以只构造一次IntSet.
+	 * 
+	 * @return int[]
+	 */
+	public static int[] getArrayValuesExceeded(int[] a, IntSet b) {
+		return IntArrays.retain(a, b, false);
 	}
 
 	/**
-	 * 给定数组中是否包含所给元素.
+	 * 给定数组中是否包含所给元素. 数组和元素都可以含有<code>null</code>. 每次调用都逐个比较;
+	 * 对同一个数组反复查找时, 用{@link LookupSet#of(Object...)}构造一次后调用{@link LookupSet#contains(Object)}.
 	 * 
 	 * @param anArray
 	 *            数组
@@ -194,7 +184,25 @@ public class ArrayUtil {
 			return false;
 		}
 		for (int i = 0; i < anArray.length; i++) {
-			if (anArray[i].equals(anElement)) {
+			if (anElement == null ? anArray[i] == null : anElement.equals(anArray[i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 给定int数组中是否包含所给值.
+	 * 
+	 * @return 包含返回<code>true</code>; 数组为<code>null</code>时返回<code>false</code>
+	 * @see IntLookupSet
+	 */
+	public static boolean contain(int[] anArray, int anElement) {
+		if (anArray == null) {
+			return false;
+		}
+		for (int i = 0; i < anArray.length; i++) {
+			if (anArray[i] == anElement) {
 				return true;
 			}
 		}
@@ -202,7 +210,8 @@ public class ArrayUtil {
 	}
 
 	/**
-	 * 所给字符串, 是否是以给定字符串数组的某一个元素为起始.
+	 * 所给字符串, 是否是以给定字符串数组的某一个元素为起始. 每次调用都逐个比较; 同一组前缀要反复匹配时,
+	 * 用{@link PrefixMatcher#compile(String...)}编译一次后调用{@link PrefixMatcher#matches(CharSequence)}.
 	 * 
 	 * @param anArray
 	 *            给定字符串数组
@@ -343,17 +352,85 @@ public class ArrayUtil {
 	}
 
 	/**
-	 * 比价两个一维数组包含的元素是否相同(不管顺序).
+	 * 比价两个一维数组包含的元素是否相同(不管顺序). 按{@link CollectionUtil#COMPARE_AS_SET}比较.
 	 * 
 	 * @param <T>
 	 * @param oneArray
 	 * @param anotherArray
 	 * @return
+	 * @see #equalsIgnoreOrder(Object[], Object[], int)
 	 */
 	public static <T> boolean equalsIgnoreOrder(T[] oneArray, T[] anotherArray) {
-		List<T> oneList = Arrays.asList(oneArray);
-		List<T> anotherList = Arrays.asList(anotherArray);
-		return CollectionUtil.equalsRegardlessOfOrder(oneList, anotherList);
+		return equalsIgnoreOrder(oneArray, anotherArray, CollectionUtil.COMPARE_AS_SET);
+	}
+
+	/**
+	 * 比价两个一维数组包含的元素是否相同(不管顺序).
+	 * 
+	 * @param mode
+	 *            {@link CollectionUtil#COMPARE_AS_SET}或{@link CollectionUtil#COMPARE_AS_MULTISET}
+	 * @return 两者都为<code>null</code>时也返回<code>true</code>
+	 * @see CollectionUtil#equalsRegardlessOfOrder(java.util.Collection, java.util.Collection, int)
+	 */
+	public static <T> boolean equalsIgnoreOrder(T[] oneArray, T[] anotherArray, int mode) {
+		if (oneArray == null || anotherArray == null) {
+			CollectionUtil.checkCompareMode(mode);
+			return oneArray == anotherArray;
+		}
+		return CollectionUtil.equalsRegardlessOfOrder(Arrays.asList(oneArray),
+				Arrays.asList(anotherArray), mode);
+	}
+
+	/**
+	 * 比较两个int数组包含的元素是否相同(不管顺序). 按{@link CollectionUtil#COMPARE_AS_SET}比较.
+	 * 
+	 * @see #equalsIgnoreOrder(int[], int[], int)
+	 */
+	public static boolean equalsIgnoreOrder(int[] oneArray, int[] anotherArray) {
+		return equalsIgnoreOrder(oneArray, anotherArray, CollectionUtil.COMPARE_AS_SET);
+	}
+
+	/**
+	 * 比较两个int数组包含的元素是否相同(不管顺序). 按多重集合比较时用{@link IntIntMap}对每个值计数:
+	 * 第一个数组加1, 第二个数组减1, 出现负数即不相同; 不装箱, 时间为O(n). 计数只能在一个线程中进行,
+	 * 因此数组很大且有多个CPU时改为并行排序副本后逐个比较(O(n log n), 但分摊到各个CPU). 原数组不被修改.
+	 * 按集合比较时见{@link IntArrays#equalsAsSet(int[], int[])}.
+	 * 
+	 * @param mode
+	 *            {@link CollectionUtil#COMPARE_AS_SET}或{@link CollectionUtil#COMPARE_AS_MULTISET}
+	 * @return 两者都为<code>null</code>时也返回<code>true</code>
+	 */
+	public static boolean equalsIgnoreOrder(int[] oneArray, int[] anotherArray, int mode) {
+		CollectionUtil.checkCompareMode(mode);
+		if (oneArray == null || anotherArray == null) {
+			return oneArray == anotherArray;
+		}
+		if (mode == CollectionUtil.COMPARE_AS_SET) {
+			return IntArrays.equalsAsSet(oneArray, anotherArray);
+		}
+		if (oneArray.length != anotherArray.length) {
+			return false;
+		}
+		if (IntArrays.isParallel(oneArray.length)) {
+			return Arrays.equals(sortedCopy(oneArray), sortedCopy(anotherArray));
+		}
+		IntIntMap counts = new IntIntMap(oneArray.length);
+		for (int value : oneArray) {
+			counts.increment(value, 1);
+		}
+		// 长度相同, 没有出现负数时所有计数都为0
+		for (int value : anotherArray) {
+			if (counts.increment(value, -1) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int[] sortedCopy(int[] values) {
+		int[] copy = values.clone();
+		Arrays.parallelSort(copy);
+		return copy;
 	}
 
 	/**
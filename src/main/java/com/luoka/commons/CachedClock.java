@@ -0,0 +1,164 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 粗粒度的缓存时钟. <BR>
+ * 由一个后台守护线程按固定精度刷新当前毫秒数, 并在秒数变化时预先生成"yyyy-MM-dd HH:mm:ss"和
+ * "yyyy-MM-dd"两种字符串; 读取方只需一次volatile读, 适合访问日志、审计等高频获取当前时间字符串的场景.
+ * 读到的时间最多比真实时间落后一个精度周期.
+ * @since zengqingmeng @ Oct 18, 2026 3:40:18 PM
+ *
+ */
+public final class CachedClock {
+
+	/**
+	 * 默认刷新精度(毫秒).
+	 */
+	public static final long DEFAULT_RESOLUTION = 10;
+
+	private static volatile CachedClock defaultClock;
+
+	private final long resolution;
+
+	private final ScheduledExecutorService ticker;
+
+	private volatile long now;
+
+	private volatile Second second;
+
+	/**
+	 * 创建并启动一个时钟.
+	 *
+	 * @param resolution
+	 *            刷新精度(毫秒)
+	 */
+	public CachedClock(long resolution) {
+		if (resolution <= 0) {
+			throw new IllegalArgumentException("Illegal value of resolution: "
+					+ resolution + "! It must be a positive integer.");
+		}
+		this.resolution = resolution;
+		tick();
+		this.ticker = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "CachedClock-" + CachedClock.this.resolution + "ms");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		ticker.scheduleAtFixedRate(new Runnable() {
+			@Override
+			public void run() {
+				tick();
+			}
+		}, resolution, resolution, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 获取{@link DateUtil}使用的全局时钟, 首次调用时以{@link #DEFAULT_RESOLUTION}启动.
+	 */
+	public static CachedClock getDefault() {
+		CachedClock clock = defaultClock;
+		if (clock == null) {
+			synchronized (CachedClock.class) {
+				clock = defaultClock;
+				if (clock == null) {
+					clock = new CachedClock(DEFAULT_RESOLUTION);
+					defaultClock = clock;
+				}
+			}
+		}
+		return clock;
+	}
+
+	private void tick() {
+		long millis = System.currentTimeMillis();
+		Second current = second;
+		if (current == null || millis < current.start || millis >= current.start + 1000) {
+			second = new Second(millis - Math.floorMod(millis, 1000L));
+		}
+		now = millis;
+	}
+
+	/**
+	 * @return 最近一次刷新时的毫秒数
+	 */
+	public long currentTimeMillis() {
+		return now;
+	}
+
+	/**
+	 * @return 当前时间, 格式为yyyy-MM-dd HH:mm:ss
+	 */
+	public String currentDateTime() {
+		return second.dateTime;
+	}
+
+	/**
+	 * @return 当前日期, 格式为yyyy-MM-dd
+	 */
+	public String currentDate() {
+		return second.date;
+	}
+
+	/**
+	 * @return 当前秒开始时的毫秒数
+	 */
+	public long currentSecondMillis() {
+		return second.start;
+	}
+
+	/**
+	 * @return 今天0点的毫秒数
+	 */
+	public long todayStartMillis() {
+		return second.dayStart;
+	}
+
+	/**
+	 * @return 刷新精度(毫秒)
+	 */
+	public long getResolution() {
+		return resolution;
+	}
+
+	/**
+	 * 停止后台刷新; 此后读到的时间不再变化.
+	 */
+	public void stop() {
+		ticker.shutdownNow();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "CachedClock [resolution=" + resolution + "ms, now=" + second.dateTime + "]";
+	}
+
+	/**
+	 * 同一秒内不变的数据.
+	 */
+	private static final class Second {
+		private final long start;
+		private final long dayStart;
+		private final String dateTime;
+		private final String date;
+
+		Second(long start) {
+			this.start = start;
+			this.dayStart = ZonedCalendar.getDefault().dayStart(start);
+			this.dateTime = DateFormatter.DATE_TIME.format(start);
+			this.date = dateTime.substring(0, DateFormatter.DATE.length());
+		}
+	}
+}
@@ -0,0 +1,240 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 编译后的IP网段集合, 用于白名单/黑名单判断. <BR>
+ * 网段以CIDR形式给出, 如"10.0.0.0/8"、"2001:db8::/32"; 不带前缀长度的视为单个地址.
+ * 内部是按地址位展开的二叉前缀树(IPv4和IPv6各一棵), 判断一个地址是否落在任一网段中最多只需走过地址的位数(32或128)步,
+ * 与网段的个数无关.<br>
+ * IPv4映射的IPv6地址(::ffff:a.b.c.d)同时按对应的IPv4地址判断. 编译后的集合不可变, 可被多个线程共享.
+ * @since zengqingmeng @ Oct 18, 2026 8:05:47 PM
+ *
+ */
+public final class CidrSet {
+
+	private static final Splitter LIST_SPLITTER = Splitter.onAnyOf(",").trimResults().omitEmptyStrings();
+
+	private static final int IPV4_ROOT = 0;
+
+	private static final int IPV6_ROOT = 1;
+
+	/**
+	 * 子节点下标, 0表示没有(根节点不会是任何节点的子节点).
+	 */
+	private final int[] zero;
+
+	private final int[] one;
+
+	/**
+	 * 到该节点为止的前缀是否是某个网段.
+	 */
+	private final boolean[] terminal;
+
+	private final List<String> ranges;
+
+	private CidrSet(List<String> ranges) {
+		Builder builder = new Builder();
+		long[] address = new long[2];
+		for (String range : ranges) {
+			int slash = range.indexOf('/');
+			int end = (slash < 0) ? range.length() : slash;
+			int maxBits;
+			int root;
+			long v4 = IpUtil.parseIPv4(range, 0, end);
+			if (v4 != IpUtil.INVALID) {
+				address[0] = v4 << 32;
+				address[1] = 0;
+				maxBits = 32;
+				root = IPV4_ROOT;
+			} else if (IpUtil.parseIPv6(range, 0, end, address)) {
+				maxBits = 128;
+				root = IPV6_ROOT;
+			} else {
+				throw new IllegalArgumentException("Illegal IP range: " + range);
+			}
+			int prefix = maxBits;
+			if (slash >= 0) {
+				prefix = parsePrefix(range, slash + 1, maxBits);
+				if (prefix < 0) {
+					throw new IllegalArgumentException("Illegal prefix length of IP range: " + range);
+				}
+			}
+			builder.insert(root, address[0], address[1], prefix);
+		}
+		this.zero = Arrays.copyOf(builder.zero, builder.size);
+		this.one = Arrays.copyOf(builder.one, builder.size);
+		this.terminal = Arrays.copyOf(builder.terminal, builder.size);
+		this.ranges = Collections.unmodifiableList(ranges);
+	}
+
+	/**
+	 * 由逗号分隔的网段列表编译, 格式同{@link StringHelper#isMultiIPs(String)}, 但各项还可以带前缀长度;
+	 * 各项两侧的空白被忽略.
+	 *
+	 * @param commaSeparatedRanges
+	 *            如"10.0.0.0/8, 192.168.1.10, 2001:db8::/32"
+	 * @throws IllegalArgumentException
+	 *             含有不合法的网段.
+	 */
+	public static CidrSet compile(String commaSeparatedRanges) {
+		AssertUtil.notNull(commaSeparatedRanges, "ranges is null.");
+		List<String> ranges = new ArrayList<String>();
+		LIST_SPLITTER.split(commaSeparatedRanges, ranges);
+		return new CidrSet(ranges);
+	}
+
+	/**
+	 * 由网段列表编译.
+	 *
+	 * @see #compile(String)
+	 */
+	public static CidrSet compile(List<String> ranges) {
+		AssertUtil.notNull(ranges, "ranges is null.");
+		List<String> trimmed = new ArrayList<String>(ranges.size());
+		for (String range : ranges) {
+			AssertUtil.notNull(range, "range is null.");
+			trimmed.add(range.trim());
+		}
+		return new CidrSet(trimmed);
+	}
+
+	/**
+	 * @return 前缀长度, 不是0至maxBits之间的十进制数时返回-1
+	 */
+	private static int parsePrefix(String range, int from, int maxBits) {
+		if (from == range.length() || range.length() - from > 3) {
+			return -1;
+		}
+		int prefix = 0;
+		for (int i = from; i < range.length(); i++) {
+			char ch = range.charAt(i);
+			if (ch < '0' || ch > '9') {
+				return -1;
+			}
+			prefix = prefix * 10 + (ch - '0');
+		}
+		return (prefix <= maxBits) ? prefix : -1;
+	}
+
+	private static int bit(long high, long low, int index) {
+		return (int) ((index < 64) ? (high >>> (63 - index)) & 1
+				: (low >>> (127 - index)) & 1);
+	}
+
+	private boolean lookup(int root, long high, long low, int bits) {
+		int node = root;
+		for (int i = 0; i < bits; i++) {
+			if (terminal[node]) {
+				return true;
+			}
+			node = (bit(high, low, i) == 0) ? zero[node] : one[node];
+			if (node == 0) {
+				return false;
+			}
+		}
+		return terminal[node];
+	}
+
+	/**
+	 * @param address
+	 *            IPv4地址值, 只取低32位
+	 * @return 是否落在某个IPv4网段中
+	 */
+	public boolean containsIPv4(long address) {
+		return lookup(IPV4_ROOT, address << 32, 0, 32);
+	}
+
+	/**
+	 * @return 给定的IPv6地址是否落在某个网段中
+	 */
+	public boolean containsIPv6(long high, long low) {
+		if (lookup(IPV6_ROOT, high, low, 128)) {
+			return true;
+		}
+		// ::ffff:a.b.c.d
+		return high == 0 && (low >>> 32) == 0xFFFFL && containsIPv4(low);
+	}
+
+	/**
+	 * @param ip
+	 *            IPv4或IPv6地址
+	 * @return 是否落在某个网段中; 不是合法的IP地址时返回<code>false</code>
+	 */
+	public boolean contains(CharSequence ip) {
+		if (ip == null) {
+			return false;
+		}
+		long v4 = IpUtil.parseIPv4(ip);
+		if (v4 != IpUtil.INVALID) {
+			return containsIPv4(v4);
+		}
+		long[] address = new long[2];
+		return IpUtil.parseIPv6(ip, address) && containsIPv6(address[0], address[1]);
+	}
+
+	/**
+	 * @return 编译时给定的网段
+	 */
+	public List<String> getRanges() {
+		return ranges;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "CidrSet " + ranges;
+	}
+
+	/**
+	 * 编译时使用的可扩容前缀树.
+	 */
+	private static final class Builder {
+		private int[] zero = new int[64];
+		private int[] one = new int[64];
+		private boolean[] terminal = new boolean[64];
+		private int size = 2;
+
+		private void insert(int root, long high, long low, int prefix) {
+			int node = root;
+			for (int i = 0; i < prefix; i++) {
+				if (terminal[node]) {
+					// 已被更短的网段覆盖
+					return;
+				}
+				boolean isZero = bit(high, low, i) == 0;
+				int child = isZero ? zero[node] : one[node];
+				if (child == 0) {
+					child = newNode();
+					if (isZero) {
+						zero[node] = child;
+					} else {
+						one[node] = child;
+					}
+				}
+				node = child;
+			}
+			terminal[node] = true;
+			// 更长的网段已被覆盖, 不再需要
+			zero[node] = 0;
+			one[node] = 0;
+		}
+
+		private int newNode() {
+			if (size == terminal.length) {
+				zero = Arrays.copyOf(zero, size << 1);
+				one = Arrays.copyOf(one, size << 1);
+				terminal = Arrays.copyOf(terminal, size << 1);
+			}
+			return size++;
+		}
+	}
+}
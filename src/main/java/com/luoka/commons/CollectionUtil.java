@@ -5,8 +5,18 @@ package com.luoka.commons;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 /**
@@ -21,19 +31,130 @@ public class CollectionUtil {
 	private CollectionUtil() {
 	}
 
+	/**
+	 * 比较方式: 作为集合比较, 只看包含哪些元素, 不看每个元素出现的次数.
+	 */
+	public static final int COMPARE_AS_SET = 0;
+
+	/**
+	 * 比较方式: 作为多重集比较, 每个元素出现的次数也必须相同.
+	 */
+	public static final int COMPARE_AS_MULTISET = 1;
+
+	/**
+	 * 元素个数达到此值时并行计数.
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	/**
+	 * 代替<code>null</code>元素, 并行收集时的Map不能有<code>null</code>键.
+	 */
+	private static final Object NULL_ELEMENT = new Object();
+
+	private static final Function<Object, Object> MASK_NULL = new Function<Object, Object>() {
+		@Override
+		public Object apply(Object element) {
+			return (element == null) ? NULL_ELEMENT : element;
+		}
+	};
+
 	/**
 	 * 比价两个List中包含的元素是否完全相同(不管顺序). <b>注意:</b>如果同时还要比较顺序是否一致, 直接用List的
-	 * <code>equals</code>方法即可.
+	 * <code>equals</code>方法即可.<br>
+	 * 按{@link #COMPARE_AS_SET}比较, 即不看重复元素的个数; 需要比较个数时使用
+	 * {@link #equalsRegardlessOfOrder(Collection, Collection, int)}.
 	 * 
 	 * @see List#equals(Object)
 	 */
 	public static boolean equalsRegardlessOfOrder(List<? extends Object> lst,
 			List<? extends Object> lst2) {
-		if (lst == null || lst2 == null) {
-			return lst == lst2;
+		return equalsRegardlessOfOrder(lst, lst2, COMPARE_AS_SET);
+	}
+
+	/**
+	 * 比较两个集合包含的元素是否相同(不管顺序). 基于元素的<code>hashCode</code>/<code>equals</code>计数,
+	 * 时间为O(n); 元素很多时并行计数.
+	 * 
+	 * @param mode
+	 *            {@link #COMPARE_AS_SET}或{@link #COMPARE_AS_MULTISET}
+	 * @return 两者都为<code>null</code>时也返回<code>true</code>
+	 * @throws IllegalArgumentException
+	 *             mode不合法
+	 */
+	public static boolean equalsRegardlessOfOrder(Collection<?> one,
+			Collection<?> another, int mode) {
+		checkCompareMode(mode);
+		if (one == null || another == null) {
+			return one == another;
+		}
+		if (one == another) {
+			return true;
+		}
+		if (mode == COMPARE_AS_MULTISET) {
+			if (one.size() != another.size()) {
+				return false;
+			}
+			if (one.size() >= PARALLEL_THRESHOLD && isParallelAvailable()) {
+				return countInParallel(one).equals(countInParallel(another));
+			}
+			return equalsAsMultiset(one, another);
+		}
+		if (Math.max(one.size(), another.size()) >= PARALLEL_THRESHOLD && isParallelAvailable()) {
+			return distinctInParallel(one).equals(distinctInParallel(another));
+		}
+		return equalsAsSet(one, another);
+	}
+
+	static void checkCompareMode(int mode) {
+		if (mode != COMPARE_AS_SET && mode != COMPARE_AS_MULTISET) {
+			throw new IllegalArgumentException("Illegal compare mode: " + mode);
+		}
+	}
+
+	static boolean isParallelAvailable() {
+		return ForkJoinPool.getCommonPoolParallelism() > 1;
+	}
+
+	private static boolean equalsAsSet(Collection<?> one, Collection<?> another) {
+		Set<Object> distinct = new HashSet<Object>(one);
+		// another中的元素都在one中, 且another中不同元素的个数与one相同
+		Set<Object> seen = new HashSet<Object>(distinct.size() * 4 / 3 + 1);
+		for (Object element : another) {
+			if (!distinct.contains(element)) {
+				return false;
+			}
+			seen.add(element);
+		}
+		return seen.size() == distinct.size();
+	}
+
+	private static boolean equalsAsMultiset(Collection<?> one, Collection<?> another) {
+		Map<Object, int[]> counts = new HashMap<Object, int[]>(one.size() * 4 / 3 + 1);
+		for (Object element : one) {
+			int[] count = counts.get(element);
+			if (count == null) {
+				counts.put(element, new int[] { 1 });
+			} else {
+				count[0]++;
+			}
+		}
+		// 两者个数相同, 所以只要没有减到负数, 最后必然都为0
+		for (Object element : another) {
+			int[] count = counts.get(element);
+			if (count == null || --count[0] < 0) {
+				return false;
+			}
 		}
+		return true;
+	}
+
+	private static Map<Object, Long> countInParallel(Collection<?> elements) {
+		return elements.parallelStream().map(MASK_NULL).collect(
+				Collectors.groupingByConcurrent(Function.identity(), Collectors.counting()));
+	}
 
-		return (lst.containsAll(lst2) && lst2.containsAll(lst));
+	private static Set<Object> distinctInParallel(Collection<?> elements) {
+		return elements.parallelStream().map(MASK_NULL).collect(Collectors.toSet());
 	}
 
 	/**
@@ -267,24 +388,109 @@ public class CollectionUtil {
 	}
 
 	/**
-	 * 获取所有匹配fromObj到toObj的部分.
+	 * 获取所有匹配fromObj到toObj的部分, 并从originList中删除.
 	 * 
 	 * @param <T>
 	 * @param originList
 	 * @param fromObj
 	 * @param toObj
-	 * @return
+	 * @return 按出现顺序排列的各段
+	 * @see #popAllSubList(List, Object, Object, Consumer)
 	 */
 	public static <T> List<List<T>> popAllSubList(List<T> originList,
 			T fromObj, T toObj) {
-		List<List<T>> result = new ArrayList<List<T>>();
-		for (List<T> subList = popFirstSubList(originList, fromObj, toObj); isNotEmpty(subList); 
-				subList = popFirstSubList(originList, fromObj, toObj)) {
-			result.add(subList);
-		}
+		final List<List<T>> result = new ArrayList<List<T>>();
+		popAllSubList(originList, fromObj, toObj, new Consumer<List<T>>() {
+			@Override
+			public void accept(List<T> subList) {
+				result.add(subList);
+			}
+		});
 		return result;
 	}
 
+	/**
+	 * 弹出所有匹配fromObj到toObj的部分, 每找到一段就交给<code>consumer</code>, 不在内存中累积. <br>
+	 * 只遍历originList一次: 段外的元素随遍历前移, 最后一次性截掉尾部, 因此时间为O(n), 适用于ArrayList和LinkedList.
+	 * 每段从一个fromObj开始, 到其后第一个toObj结束(两者相等时该段只有一个元素); 出现在fromObj之前的toObj不构成段,
+	 * 保留在原处; 最后一段没有toObj时也保留在原处. <code>consumer</code>在遍历过程中被调用, 不能修改originList.
+	 * 
+	 * @param consumer
+	 *            接收每一段(新的ArrayList)
+	 * @return 弹出的段数
+	 */
+	public static <T> int popAllSubList(List<T> originList, T fromObj, T toObj,
+			Consumer<? super List<T>> consumer) {
+		AssertUtil.notNull(originList, "originList is null.");
+		AssertUtil.notNull(consumer, "consumer is null.");
+		int size = originList.size();
+		ListIterator<T> writer = originList.listIterator();
+		int writeIndex = 0;
+		int readIndex = 0;
+		int count = 0;
+		List<T> block = null;
+		int blockStart = 0;
+		for (Iterator<T> reader = originList.iterator(); reader.hasNext(); readIndex++) {
+			T element = reader.next();
+			if (block == null) {
+				if (Objects.equals(element, fromObj)) {
+					block = new ArrayList<T>();
+					blockStart = readIndex;
+				} else {
+					// 段外的元素移到写的位置
+					writer.next();
+					if (writeIndex < readIndex) {
+						writer.set(element);
+					}
+					writeIndex++;
+					continue;
+				}
+			}
+			block.add(element);
+			if (Objects.equals(element, toObj)) {
+				consumer.accept(block);
+				count++;
+				block = null;
+			}
+		}
+		if (block != null) {
+			// 没有结束的段保留在原处; 前面弹出过段时才需要前移
+			if (writeIndex < blockStart) {
+				for (T element : block) {
+					writer.next();
+					writer.set(element);
+				}
+			}
+			writeIndex += block.size();
+		}
+		if (writeIndex < size) {
+			originList.subList(writeIndex, size).clear();
+		}
+		return count;
+	}
+
+	/**
+	 * 从items中选出包含在values中的元素. values只建一次{@link LookupSet}, 时间为O(n+m).
+	 * 
+	 * @return 保持items中的顺序和重复
+	 * @see LookupSet#filter(Collection)
+	 */
+	public static <E> List<E> filter(Collection<E> items, Object[] values) {
+		AssertUtil.notNull(values, "values is null.");
+		return LookupSet.of(values).filter(items);
+	}
+
+	/**
+	 * 从items中选出不包含在values中的元素.
+	 * 
+	 * @return 保持items中的顺序和重复
+	 * @see LookupSet#exclude(Collection)
+	 */
+	public static <E> List<E> exclude(Collection<E> items, Object[] values) {
+		AssertUtil.notNull(values, "values is null.");
+		return LookupSet.of(values).exclude(items);
+	}
+
 	/**
 	 * @param map
 	 * @param key
@@ -307,13 +513,29 @@ public class CollectionUtil {
 	 * @return 转换后的整数数组
 	 */
 	public static List<Integer> toCollection(int[] intIds) {
-		List<Integer> integerIds = new ArrayList<Integer>();
+		List<Integer> integerIds = new ArrayList<Integer>(intIds.length);
 		for ( int intId : intIds ){
-			integerIds.add(new Integer(intId));
+			integerIds.add(Integer.valueOf(intId));
 		}
 		return integerIds;
 	}
 
+	/**
+	 * 将整数集合转换成{@link IntList}, 此后的处理不再装箱.
+	 * 
+	 * @param integers
+	 *            整数集合, 不能包含<code>null</code>
+	 * @return 按集合迭代顺序排列的整数
+	 */
+	public static IntList toIntList(Collection<Integer> integers) {
+		AssertUtil.notNull(integers, "integers is null.");
+		IntList result = new IntList(integers.size());
+		for (Integer value : integers) {
+			result.add(value.intValue());
+		}
+		return result;
+	}
+
 	/**
 	 * 将对象数组转换成对象集合
 	 * 
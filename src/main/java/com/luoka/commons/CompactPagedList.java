@@ -0,0 +1,80 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * 以{@link PagedListCodec}的紧凑格式进行Java序列化的{@link PagedList}包装. <BR>
+ * PagedList本身的Java序列化保持默认格式, 以便读取已有的数据; 放入缓存、会话等由Java序列化的存储时,
+ * 放入本类的实例可以少写出派生字段和类描述. 记录按Java序列化写出. 两种格式互不兼容, 改为使用本类时应使用新的缓存键.<br>
+ * 读取时总是创建PagedList本身, 因此只能包装PagedList, 不能包装子类; 子类请使用{@link PagedListCodec#PagedListCodec(PagedListCodec.ElementCodec, java.util.function.Supplier)}.
+ * @since zengqingmeng @ Oct 19, 2026 10:21:06 AM
+ *
+ * @see PagedList#writeExternal(java.io.DataOutput, PagedListCodec.ElementCodec)
+ */
+public final class CompactPagedList<T> implements Externalizable {
+
+	private static final long serialVersionUID = 1L;
+
+	private PagedList<T> pagedList;
+
+	/**
+	 * 供Java序列化读取时使用.
+	 */
+	public CompactPagedList() {
+	}
+
+	/**
+	 *
+	 * @param pagedList
+	 *            被包装的PagedList
+	 * @throws IllegalArgumentException
+	 *             pagedList是PagedList的子类
+	 */
+	public CompactPagedList(PagedList<T> pagedList) {
+		AssertUtil.notNull(pagedList, "pagedList is null.");
+		if (pagedList.getClass() != PagedList.class) {
+			throw new IllegalArgumentException("Subclass of PagedList is not supported: "
+					+ pagedList.getClass().getName());
+		}
+		this.pagedList = pagedList;
+	}
+
+	/**
+	 * @return 被包装(或读取到)的PagedList
+	 */
+	public PagedList<T> getPagedList() {
+		return pagedList;
+	}
+
+	/**
+	 * @see java.io.Externalizable#writeExternal(java.io.ObjectOutput)
+	 */
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		pagedList.writeExternal(out, PagedListCodec.<T> objectCodec());
+	}
+
+	/**
+	 * @see java.io.Externalizable#readExternal(java.io.ObjectInput)
+	 */
+	@Override
+	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+		PagedList<T> read = new PagedList<T>();
+		read.readExternal(in, PagedListCodec.<T> objectCodec());
+		this.pagedList = read;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "CompactPagedList [pagedList=" + pagedList + "]";
+	}
+}
@@ -0,0 +1,403 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 按查询缓存总条数, 供构造{@link PagedList}时使用, 避免每次翻页都执行COUNT查询. <BR>
+ * 每个查询(由调用方给出的key区分, 如SQL加参数)的总条数在过期时间内直接复用; 过期后先返回旧值(标记为估计值),
+ * 同时在指定的线程池中重新计数, 请求不会因为COUNT变慢. 也可以用{@link #put(String, long, boolean)}
+ * 放入来自表统计信息等的近似值. 容量有限, 超出时淘汰最久未使用的查询.<br>
+ * 线程安全; 同一个查询同时只有一个线程在计数: 首次计数(或失效后)时其他线程等待其结果, 过期后重新计数时其他线程得到旧值.
+ * @since zengqingmeng @ Oct 18, 2026 11:26:14 PM
+ *
+ * @see PagedList#isTotalEstimated()
+ */
+public final class CountCache {
+
+	/**
+	 * 计算一个查询的总条数.
+	 */
+	public interface Counter {
+		long count();
+	}
+
+	private final ConcurrentHashMap<String, Entry> entries;
+
+	private final int capacity;
+
+	private final long ttlMillis;
+
+	/**
+	 * 为<code>null</code>时在请求线程中同步重新计数.
+	 */
+	private final Executor refresher;
+
+	/**
+	 * 逻辑时钟, 用于记录每个查询最近一次被使用的先后.
+	 */
+	private final AtomicLong clock = new AtomicLong();
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong refreshes = new AtomicLong();
+
+	private final AtomicLong evictions = new AtomicLong();
+
+	private final ReentrantLock evictLock = new ReentrantLock();
+
+	/**
+	 * @param capacity
+	 *            最多缓存的查询个数
+	 * @param ttlMillis
+	 *            总条数的有效期(毫秒)
+	 * @param refresher
+	 *            过期后重新计数使用的线程池; <code>null</code>表示在请求线程中同步重新计数
+	 */
+	public CountCache(int capacity, long ttlMillis, Executor refresher) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Illegal value of capacity: "
+					+ capacity + "! It must be a positive integer.");
+		}
+		if (ttlMillis <= 0) {
+			throw new IllegalArgumentException("Illegal value of ttlMillis: "
+					+ ttlMillis + "! It must be a positive integer.");
+		}
+		this.capacity = capacity;
+		this.ttlMillis = ttlMillis;
+		this.refresher = refresher;
+		this.entries = new ConcurrentHashMap<String, Entry>(capacity * 4 / 3 + 1);
+	}
+
+	/**
+	 * 获取查询的总条数: 没有缓存时同步计数(其他线程同时请求时等待同一次计数); 已过期时返回旧值(标记为估计值)并重新计数.
+	 *
+	 * @param key
+	 *            查询的标识
+	 * @param counter
+	 *            计数方法
+	 * @throws IllegalStateException
+	 *             等待其他线程计数时被中断
+	 */
+	public Count get(String key, final Counter counter) {
+		AssertUtil.notNull(key, "key is null.");
+		AssertUtil.notNull(counter, "counter is null.");
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			Entry loading = new Entry(new FutureTask<Count>(new Callable<Count>() {
+				@Override
+				public Count call() {
+					return new Count(counter.count(), false);
+				}
+			}));
+			loading.lastAccess = clock.incrementAndGet();
+			entry = entries.putIfAbsent(key, loading);
+			if (entry == null) {
+				misses.incrementAndGet();
+				return load(key, loading);
+			}
+		}
+		hits.incrementAndGet();
+		FutureTask<Count> loading = entry.loading;
+		if (loading != null) {
+			// 其他线程正在首次计数
+			return await(loading);
+		}
+		entry.lastAccess = clock.incrementAndGet();
+		Count count = entry.count;
+		if (System.currentTimeMillis() < entry.expiresAt) {
+			return count;
+		}
+		if (!entry.refreshing.compareAndSet(false, true)) {
+			// 其他线程正在重新计数
+			return count.asEstimate();
+		}
+		if (refresher == null) {
+			refresh(entry, counter);
+			return entry.count;
+		}
+		submitRefresh(entry, counter);
+		return count.asEstimate();
+	}
+
+	/**
+	 * 在当前线程中首次计数; 失败时不缓存, 等待的线程得到同样的异常.
+	 */
+	private Count load(String key, Entry entry) {
+		FutureTask<Count> loading = entry.loading;
+		loading.run();
+		boolean loaded = false;
+		try {
+			Count count = await(loading);
+			entry.count = count;
+			entry.expiresAt = System.currentTimeMillis() + ttlMillis;
+			entry.loading = null;
+			loaded = true;
+			if (entries.size() > capacity) {
+				evict();
+			}
+			return count;
+		} finally {
+			if (!loaded) {
+				entries.remove(key, entry);
+			}
+		}
+	}
+
+	private static Count await(FutureTask<Count> loading) {
+		try {
+			return loading.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for count", e);
+		} catch (ExecutionException e) {
+			// Counter没有受检异常
+			Throwable cause = e.getCause();
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw (RuntimeException) cause;
+		}
+	}
+
+	private void submitRefresh(final Entry entry, final Counter counter) {
+		try {
+			refresher.execute(new Runnable() {
+				@Override
+				public void run() {
+					refresh(entry, counter);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			entry.refreshing.set(false);
+		}
+	}
+
+	private void refresh(Entry entry, Counter counter) {
+		try {
+			Count count = new Count(counter.count(), false);
+			entry.count = count;
+			entry.expiresAt = System.currentTimeMillis() + ttlMillis;
+			refreshes.incrementAndGet();
+		} finally {
+			entry.refreshing.set(false);
+		}
+	}
+
+	/**
+	 * 放入一个查询的总条数, 覆盖已有的值.
+	 *
+	 * @param estimate
+	 *            是否为近似值(如来自表统计信息)
+	 */
+	public void put(String key, long count, boolean estimate) {
+		AssertUtil.notNull(key, "key is null.");
+		put(key, new Count(count, estimate));
+	}
+
+	private void put(String key, Count count) {
+		Entry entry = new Entry(count, System.currentTimeMillis() + ttlMillis);
+		entry.lastAccess = clock.incrementAndGet();
+		entries.put(key, entry);
+		if (entries.size() > capacity) {
+			evict();
+		}
+	}
+
+	/**
+	 * 由缓存的总条数构造翻页对象.
+	 *
+	 * @param key
+	 *            查询的标识
+	 * @param counter
+	 *            计数方法
+	 * @param pageItems
+	 *            本页的记录
+	 * @see #get(String, Counter)
+	 * @see PagedList#PagedList(List, int, int, int, boolean)
+	 */
+	public <T> PagedList<T> newPagedList(String key, Counter counter,
+			List<T> pageItems, int pageIndex, int pageSize) {
+		Count count = get(key, counter);
+		return new PagedList<T>(pageItems, pageIndex, pageSize, count.intValue(),
+				count.estimate);
+	}
+
+	/**
+	 * 淘汰最久未使用的查询, 直到不超过容量. 并发时只有一个线程做淘汰.
+	 */
+	private void evict() {
+		if (!evictLock.tryLock()) {
+			return;
+		}
+		try {
+			while (entries.size() > capacity) {
+				String eldest = null;
+				long eldestAccess = Long.MAX_VALUE;
+				for (Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator(); it.hasNext();) {
+					Map.Entry<String, Entry> entry = it.next();
+					if (entry.getValue().lastAccess < eldestAccess) {
+						eldestAccess = entry.getValue().lastAccess;
+						eldest = entry.getKey();
+					}
+				}
+				if (eldest == null) {
+					return;
+				}
+				if (entries.remove(eldest) != null) {
+					evictions.incrementAndGet();
+				}
+			}
+		} finally {
+			evictLock.unlock();
+		}
+	}
+
+	/**
+	 * 使一个查询的总条数失效, 如在插入或删除数据之后.
+	 */
+	public void invalidate(String key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * 清空缓存.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * @return 当前缓存的查询个数
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return 命中次数(含已过期的和等待其他线程首次计数的)
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * @return 未命中次数
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * @return 过期后重新计数的次数
+	 */
+	public long getRefreshCount() {
+		return refreshes.get();
+	}
+
+	/**
+	 * @return 淘汰次数
+	 */
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "CountCache [size=" + size() + ", capacity=" + capacity
+				+ ", ttlMillis=" + ttlMillis + ", hits=" + hits + ", misses="
+				+ misses + ", refreshes=" + refreshes + "]";
+	}
+
+	/**
+	 * 总条数, 可能是估计值.
+	 */
+	public static final class Count {
+		private final long value;
+		private final boolean estimate;
+
+		private Count(long value, boolean estimate) {
+			this.value = value;
+			this.estimate = estimate;
+		}
+
+		private Count asEstimate() {
+			return estimate ? this : new Count(value, true);
+		}
+
+		/**
+		 * @return 总条数
+		 */
+		public long getValue() {
+			return value;
+		}
+
+		/**
+		 * @return 总条数, 超出int范围时为<code>Integer.MAX_VALUE</code>
+		 */
+		public int intValue() {
+			return (int) Math.min(value, Integer.MAX_VALUE);
+		}
+
+		/**
+		 * @return 是否为估计值(近似值或已过期的值)
+		 */
+		public boolean isEstimate() {
+			return estimate;
+		}
+
+		/**
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return estimate ? "~" + value : String.valueOf(value);
+		}
+	}
+
+	private static final class Entry {
+		private volatile Count count;
+		private volatile long expiresAt;
+		private volatile long lastAccess;
+		private final AtomicBoolean refreshing = new AtomicBoolean();
+
+		/**
+		 * 首次计数完成前不为<code>null</code>, 此时count还没有值.
+		 */
+		private volatile FutureTask<Count> loading;
+
+		private Entry(Count count, long expiresAt) {
+			this.count = count;
+			this.expiresAt = expiresAt;
+		}
+
+		private Entry(FutureTask<Count> loading) {
+			this.loading = loading;
+		}
+	}
+}
@@ -0,0 +1,204 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 游标分页(keyset pagination)的一页. <BR>
+ * 与{@link PagedList}的按偏移量分页不同, 这里不需要总条数: 查询时用上一页最后一条记录的排序键作为条件
+ * (如<code>WHERE (create_time, id) &lt; (?, ?) ORDER BY create_time DESC, id DESC LIMIT pageSize + 1</code>),
+ * 翻到多深都是常数时间, 也不需要执行COUNT查询. 多取的一条只用来判断是否还有下一页.<br>
+ * 下一页的游标由{@link PageCursor}编码, 其中带有页号, 因此{@link #toPagedList()}得到的{@link PagedList}
+ * 的getNextPage、isLastPage等方法仍然可用, 已有的翻页视图不用修改.
+ * @since zengqingmeng @ Oct 18, 2026 10:21:37 PM
+ *
+ */
+public class CursorPage<T> implements Serializable {
+
+	private static final long serialVersionUID = -3402651528017625390L;
+
+	/**
+	 * 从一条记录中取出排序键.
+	 */
+	public interface KeyExtractor<T> {
+		/**
+		 * @return 排序键的各部分, 类型要求见{@link PageCursor#encode(int, Object...)}
+		 */
+		Object[] keyOf(T item);
+	}
+
+	private final List<T> pageItems;
+
+	private final int pageIndex;
+
+	private final int pageSize;
+
+	private final String cursor;
+
+	private final String nextCursor;
+
+	/**
+	 *
+	 * @param pageItems
+	 *            本页的记录
+	 * @param pageSize
+	 *            每页条数
+	 * @param cursor
+	 *            本页的游标, 第一页为<code>null</code>
+	 * @param nextCursor
+	 *            下一页的游标, 没有下一页时为<code>null</code>
+	 * @throws IllegalArgumentException
+	 *             游标不合法
+	 */
+	public CursorPage(List<T> pageItems, int pageSize, String cursor,
+			String nextCursor) {
+		AssertUtil.notNull(pageItems, "pageItems is null.");
+		this.pageItems = pageItems;
+		this.pageIndex = PageCursor.decode(cursor).getPageIndex();
+		this.pageSize = (pageSize <= 0) ? 5 : pageSize;
+		this.cursor = cursor;
+		this.nextCursor = nextCursor;
+	}
+
+	/**
+	 * 由按<code>pageSize + 1</code>条查询的结果构造一页: 多出的一条被去掉, 只表示还有下一页,
+	 * 下一页的游标由本页最后一条记录的排序键生成.
+	 *
+	 * @param fetched
+	 *            查询结果, 最多<code>pageSize + 1</code>条
+	 * @param pageSize
+	 *            每页条数
+	 * @param cursor
+	 *            本页的游标, 第一页为<code>null</code>
+	 * @param keyExtractor
+	 *            从记录中取出排序键
+	 */
+	public static <T> CursorPage<T> of(List<T> fetched, int pageSize,
+			String cursor, KeyExtractor<? super T> keyExtractor) {
+		AssertUtil.notNull(fetched, "fetched is null.");
+		AssertUtil.notNull(keyExtractor, "keyExtractor is null.");
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+		}
+		if (fetched.size() <= pageSize) {
+			return new CursorPage<T>(fetched, pageSize, cursor, null);
+		}
+		// subList不可序列化
+		List<T> pageItems = new ArrayList<T>(fetched.subList(0, pageSize));
+		int pageIndex = PageCursor.decode(cursor).getPageIndex();
+		String nextCursor = PageCursor.encode(pageIndex + 1,
+				keyExtractor.keyOf(pageItems.get(pageSize - 1)));
+		return new CursorPage<T>(pageItems, pageSize, cursor, nextCursor);
+	}
+
+	/**
+	 * @return 没有记录的第一页
+	 */
+	public static <T> CursorPage<T> empty(int pageSize) {
+		return new CursorPage<T>(Collections.<T> emptyList(), pageSize, null, null);
+	}
+
+	/**
+	 * 转为{@link PagedList}, 供按页号翻页的视图使用. 总条数只计到目前已知的部分: 有下一页时多算一条,
+	 * 因此getPageTotal为已知的页数, isLastPage与{@link #isLastPage()}一致.
+	 */
+	public PagedList<T> toPagedList() {
+		int knownTotal = pageIndex * pageSize + pageItems.size() + (hasNext() ? 1 : 0);
+		return new PagedList<T>(pageIndex, pageSize, knownTotal, pageItems, 10);
+	}
+
+	/**
+	 * @return 本页的第<code>index</code>条记录
+	 */
+	public T get(int index) {
+		return pageItems.get(index);
+	}
+
+	/**
+	 * @return the list of items for this page
+	 */
+	public List<T> getPageItems() {
+		return pageItems;
+	}
+
+	/**
+	 * @return 页号, 从0开始
+	 */
+	public int getPageIndex() {
+		return pageIndex;
+	}
+
+	/**
+	 * @return the pageSize
+	 */
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * @return 本页的游标, 第一页为<code>null</code>
+	 */
+	public String getCursor() {
+		return cursor;
+	}
+
+	/**
+	 * @return 下一页的游标, 没有下一页时为<code>null</code>
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * @return 是否还有下一页
+	 */
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+
+	/**
+	 * @return true if this is the first page
+	 */
+	public boolean isFirstPage() {
+		return pageIndex == 0;
+	}
+
+	/**
+	 * @return true if this is the last page
+	 */
+	public boolean isLastPage() {
+		return !hasNext();
+	}
+
+	/**
+	 * @return 下一页的页号; 没有下一页时为本页的页号, 与{@link PagedList#getNextPage()}一致
+	 */
+	public int getNextPage() {
+		return hasNext() ? pageIndex + 1 : pageIndex;
+	}
+
+	/**
+	 * @return 本页的记录数
+	 */
+	public int size() {
+		return pageItems.size();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("CursorPage [pageIndex=").append(pageIndex);
+		builder.append(", hasNext=").append(hasNext());
+		builder.append("; pageItems=").append(pageItems);
+		builder.append("]");
+		return builder.toString();
+	}
+}
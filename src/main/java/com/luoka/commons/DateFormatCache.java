@@ -0,0 +1,377 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 按 格式+地域+时区 缓存已编译的日期格式, 供{@link DateUtil}中接受任意格式的方法使用. <BR>
+ * 容量有限, 超出时淘汰最久未使用的格式; 查找无锁, 并记录命中/未命中次数.<br>
+ * 缓存的格式对象是线程安全的: 只含数字字段的格式走{@link DateFormatter}, 其余格式每个线程持有一份
+ * SimpleDateFormat副本.
+ * @since zengqingmeng @ Oct 18, 2026 10:31:05 AM
+ *
+ */
+public final class DateFormatCache {
+
+	/**
+	 * 默认容量.
+	 */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	private static final DateFormatCache SHARED = new DateFormatCache(DEFAULT_CAPACITY);
+
+	/**
+	 * GregorianCalendar默认的儒略历/格里高利历切换点, 在此之前{@link DateFormatter}的结果与SimpleDateFormat不同.
+	 */
+	private static final long GREGORIAN_CUTOVER = -12219292800000L;
+
+	private final ConcurrentHashMap<Key, CompiledFormat> formats;
+
+	private final int capacity;
+
+	/**
+	 * 逻辑时钟, 用于记录每个格式最近一次被使用的先后.
+	 */
+	private final AtomicLong clock = new AtomicLong();
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong evictions = new AtomicLong();
+
+	private final ReentrantLock evictLock = new ReentrantLock();
+
+	/**
+	 * @param capacity
+	 *            最多缓存的格式个数
+	 */
+	public DateFormatCache(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Illegal value of capacity: "
+					+ capacity + "! It must be a positive integer.");
+		}
+		this.capacity = capacity;
+		this.formats = new ConcurrentHashMap<Key, CompiledFormat>(capacity * 4 / 3 + 1);
+	}
+
+	/**
+	 * @return {@link DateUtil}使用的全局缓存.
+	 */
+	public static DateFormatCache getInstance() {
+		return SHARED;
+	}
+
+	/**
+	 * 获取默认地域、默认时区下的格式.
+	 *
+	 * @see #get(String, Locale, TimeZone)
+	 */
+	public CompiledFormat get(String pattern) {
+		return get(pattern, null, null);
+	}
+
+	/**
+	 * 获取已编译的格式, 不存在时编译并放入缓存.
+	 *
+	 * @param pattern
+	 *            格式, 语法同{@link SimpleDateFormat}
+	 * @param locale
+	 *            地域, <code>null</code>表示默认地域
+	 * @param zone
+	 *            时区, <code>null</code>表示编译时的JVM默认时区
+	 * @return 线程安全的格式对象
+	 * @throws IllegalArgumentException
+	 *             格式不合法.
+	 */
+	public CompiledFormat get(String pattern, Locale locale, TimeZone zone) {
+		AssertUtil.notNull(pattern, "pattern is null.");
+		if (locale == null) {
+			locale = Locale.getDefault(Locale.Category.FORMAT);
+		}
+		Key key = new Key(pattern, locale, (zone == null) ? null : zone.getID());
+		CompiledFormat format = formats.get(key);
+		if (format != null) {
+			hits.incrementAndGet();
+			format.lastAccess = clock.incrementAndGet();
+			return format;
+		}
+		misses.incrementAndGet();
+		format = new CompiledFormat(pattern, locale, (zone == null) ? TimeZone.getDefault() : zone);
+		format.lastAccess = clock.incrementAndGet();
+		CompiledFormat existed = formats.putIfAbsent(key, format);
+		if (existed != null) {
+			return existed;
+		}
+		if (formats.size() > capacity) {
+			evict();
+		}
+		return format;
+	}
+
+	/**
+	 * 淘汰最久未使用的格式, 直到不超过容量. 只在未命中时执行, 并发时只有一个线程做淘汰.
+	 */
+	private void evict() {
+		if (!evictLock.tryLock()) {
+			return;
+		}
+		try {
+			while (formats.size() > capacity) {
+				Key eldest = null;
+				long eldestAccess = Long.MAX_VALUE;
+				for (Iterator<Map.Entry<Key, CompiledFormat>> it = formats.entrySet().iterator(); it.hasNext();) {
+					Map.Entry<Key, CompiledFormat> entry = it.next();
+					if (entry.getValue().lastAccess < eldestAccess) {
+						eldestAccess = entry.getValue().lastAccess;
+						eldest = entry.getKey();
+					}
+				}
+				if (eldest == null) {
+					return;
+				}
+				if (formats.remove(eldest) != null) {
+					evictions.incrementAndGet();
+				}
+			}
+		} finally {
+			evictLock.unlock();
+		}
+	}
+
+	/**
+	 * 清空缓存; 修改了JVM默认时区后应调用本方法.
+	 */
+	public void clear() {
+		formats.clear();
+	}
+
+	/**
+	 * @return 当前缓存的格式个数
+	 */
+	public int size() {
+		return formats.size();
+	}
+
+	/**
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return 命中次数
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * @return 未命中次数
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * @return 淘汰次数
+	 */
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	/**
+	 * @return 命中率, 尚无请求时为0
+	 */
+	public double getHitRate() {
+		long hitCount = hits.get();
+		long total = hitCount + misses.get();
+		return (total == 0) ? 0 : (double) hitCount / total;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("DateFormatCache [size=").append(formats.size());
+		builder.append(", capacity=").append(capacity);
+		builder.append(", hits=").append(hits.get());
+		builder.append(", misses=").append(misses.get());
+		builder.append(", evictions=").append(evictions.get());
+		builder.append("]");
+		return builder.toString();
+	}
+
+	private static final class Key {
+		private final String pattern;
+		private final Locale locale;
+		private final String zoneId;
+		private final int hash;
+
+		Key(String pattern, Locale locale, String zoneId) {
+			this.pattern = pattern;
+			this.locale = locale;
+			this.zoneId = zoneId;
+			int h = pattern.hashCode();
+			h = 31 * h + locale.hashCode();
+			h = 31 * h + ((zoneId == null) ? 0 : zoneId.hashCode());
+			this.hash = h;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hash == other.hash && pattern.equals(other.pattern)
+					&& locale.equals(other.locale)
+					&& (zoneId == null ? other.zoneId == null : zoneId.equals(other.zoneId));
+		}
+	}
+
+	/**
+	 * 已编译的、线程安全的日期格式, 行为与同样参数构造的{@link SimpleDateFormat}一致.
+	 */
+	public static final class CompiledFormat {
+
+		private final String pattern;
+
+		/**
+		 * 只含数字字段、且地域使用格里高利历和阿拉伯数字时才有, 否则为<code>null</code>.
+		 */
+		private final DateFormatter formatter;
+
+		private final ThreadLocal<SimpleDateFormat> local;
+
+		private volatile long lastAccess;
+
+		CompiledFormat(String pattern, Locale locale, TimeZone zone) {
+			final SimpleDateFormat prototype = new SimpleDateFormat(pattern, locale);
+			prototype.setTimeZone(zone);
+			this.pattern = pattern;
+			this.formatter = compileFast(pattern, locale, zone);
+			this.local = new ThreadLocal<SimpleDateFormat>() {
+				@Override
+				protected SimpleDateFormat initialValue() {
+					return (SimpleDateFormat) prototype.clone();
+				}
+			};
+		}
+
+		private static DateFormatter compileFast(String pattern, Locale locale,
+				TimeZone zone) {
+			if (!(Calendar.getInstance(zone, locale) instanceof GregorianCalendar)
+					|| DecimalFormatSymbols.getInstance(locale).getZeroDigit() != '0') {
+				return null;
+			}
+			try {
+				// 含文本字段(如MMM月份名称)的格式不能编译, 走SimpleDateFormat
+				return DateFormatter.compile(pattern, zone);
+			} catch (IllegalArgumentException e) {
+				return null;
+			}
+		}
+
+		/**
+		 * @return 是否使用{@link DateFormatter}格式化
+		 */
+		boolean hasFastPath() {
+			return formatter != null;
+		}
+
+		/**
+		 * 格式化毫秒时间.
+		 */
+		public String format(long millis) {
+			if (formatter != null && millis >= GREGORIAN_CUTOVER) {
+				return formatter.format(millis);
+			}
+			return local.get().format(new Date(millis));
+		}
+
+		/**
+		 * 格式化日期对象.
+		 */
+		public String format(Date date) {
+			return format(date.getTime());
+		}
+
+		/**
+		 * 解析日期字符串, 语义同{@link SimpleDateFormat#parse(String)}.
+		 *
+		 * @throws ParseException
+		 *             不能解析时.
+		 */
+		public Date parse(String text) throws ParseException {
+			long millis = parseStrict(text);
+			if (millis != Long.MIN_VALUE) {
+				return new Date(millis);
+			}
+			return local.get().parse(text);
+		}
+
+		/**
+		 * 从给定位置起解析日期字符串, 语义同{@link SimpleDateFormat#parse(String, ParsePosition)},
+		 * 不能解析时返回<code>null</code>而不抛出异常.
+		 */
+		public Date parse(String text, ParsePosition pos) {
+			if (pos.getIndex() == 0) {
+				long millis = parseStrict(text);
+				if (millis != Long.MIN_VALUE) {
+					pos.setIndex(text.length());
+					return new Date(millis);
+				}
+			}
+			return local.get().parse(text, pos);
+		}
+
+		private long parseStrict(String text) {
+			if (formatter == null) {
+				return Long.MIN_VALUE;
+			}
+			long millis = formatter.parseMillis(text, Long.MIN_VALUE);
+			return (millis >= GREGORIAN_CUTOVER) ? millis : Long.MIN_VALUE;
+		}
+
+		/**
+		 * @return 快速格式化器, 不支持时为<code>null</code>
+		 */
+		DateFormatter getFormatter() {
+			return formatter;
+		}
+
+		/**
+		 * @return the pattern
+		 */
+		public String getPattern() {
+			return pattern;
+		}
+	}
+}
@@ -0,0 +1,438 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * 预编译的、不可变的日期格式化器, 可被任意多个线程共享. <BR>
+ * 只支持数字型的模式字母(y, M, d, H, m, s, S)及字面量(含单引号包围的文本),
+ * 足以覆盖{@link DateUtil}中的各种固定格式. 格式化时直接对毫秒数做算术运算,
+ * 写入调用方提供的<code>char[]</code>或<code>StringBuilder</code>, 不创建Date或Calendar对象.<br>
+ * 日期按前推格里高利历(proleptic Gregorian)计算, 因此对1582-10-15之前的时间与
+ * {@link java.text.SimpleDateFormat}的结果不同.
+ * @since zengqingmeng @ Oct 18, 2026 9:12:40 AM
+ *
+ */
+public final class DateFormatter {
+
+	/**
+	 * yyyy-MM-dd HH:mm:ss
+	 */
+	public static final DateFormatter DATE_TIME = compile("yyyy-MM-dd HH:mm:ss");
+
+	/**
+	 * yyyy-MM-dd
+	 */
+	public static final DateFormatter DATE = compile("yyyy-MM-dd");
+
+	/**
+	 * HH:mm:ss
+	 */
+	public static final DateFormatter TIME = compile("HH:mm:ss");
+
+	/**
+	 * yyyy-MM-dd HH
+	 */
+	public static final DateFormatter DATE_HOUR = compile(DateUtil.STR_YYYYMMDD_HH);
+
+	/**
+	 * yyyy-MM-dd HH:mm
+	 */
+	public static final DateFormatter DATE_MINUTE = compile("yyyy-MM-dd HH:mm");
+
+	private static final int LITERAL = 0;
+	private static final int YEAR = 1;
+	private static final int MONTH = 2;
+	private static final int DAY = 3;
+	private static final int HOUR = 4;
+	private static final int MINUTE = 5;
+	private static final int SECOND = 6;
+	private static final int MILLISECOND = 7;
+
+	private final String pattern;
+
+	private final TimeZone zone;
+
+	private final ZonedCalendar calendar;
+
+	/**
+	 * 每个token的类型; 字面量token对应{@link #counts}中为字符本身.
+	 */
+	private final int[] types;
+
+	/**
+	 * 每个数字token的最少位数; 字面量token则为该字符.
+	 */
+	private final int[] counts;
+
+	/**
+	 * 格式化结果的长度(年份超过4位时除外).
+	 */
+	private final int length;
+
+	/**
+	 * 是否所有字段都是定长的, 只有定长的格式才支持{@link #parseMillis(CharSequence, long)}.
+	 */
+	private final boolean parsable;
+
+	private DateFormatter(String pattern, TimeZone zone, int[] types,
+			int[] counts) {
+		this.pattern = pattern;
+		this.zone = zone;
+		this.calendar = ZonedCalendar.of(zone);
+		this.types = types;
+		this.counts = counts;
+		int len = 0;
+		boolean fixed = true;
+		for (int i = 0; i < types.length; i++) {
+			if (types[i] == LITERAL) {
+				len++;
+				continue;
+			}
+			len += counts[i];
+			if (types[i] == YEAR ? counts[i] != 4
+					: (types[i] == MILLISECOND ? counts[i] != 3 : counts[i] != 2)) {
+				fixed = false;
+			}
+		}
+		this.length = len;
+		this.parsable = fixed;
+	}
+
+	/**
+	 * 以JVM默认时区编译给定格式.
+	 *
+	 * @see #compile(String, TimeZone)
+	 */
+	public static DateFormatter compile(String pattern) {
+		return compile(pattern, TimeZone.getDefault());
+	}
+
+	/**
+	 * 编译给定格式.
+	 *
+	 * @param pattern
+	 *            格式, 语法同{@link java.text.SimpleDateFormat}, 但只支持y, M, d, H, m, s,
+	 *            S这几个字母, 且M最多两个(数字月份)
+	 * @param zone
+	 *            时区
+	 * @throws IllegalArgumentException
+	 *             格式中包含不支持的字母或文本月份(MMM), 或引号不匹配.
+	 */
+	public static DateFormatter compile(String pattern, TimeZone zone) {
+		AssertUtil.notNull(pattern, "pattern is null.");
+		AssertUtil.notNull(zone, "zone is null.");
+		List<int[]> tokens = new ArrayList<int[]>();
+		final int len = pattern.length();
+		for (int i = 0; i < len;) {
+			char ch = pattern.charAt(i);
+			if (ch == '\'') {
+				if (i + 1 < len && pattern.charAt(i + 1) == '\'') {
+					tokens.add(new int[] { LITERAL, '\'' });
+					i += 2;
+					continue;
+				}
+				int j = i + 1;
+				for (; j < len; j++) {
+					if (pattern.charAt(j) == '\'') {
+						if (j + 1 < len && pattern.charAt(j + 1) == '\'') {
+							tokens.add(new int[] { LITERAL, '\'' });
+							j++;
+							continue;
+						}
+						break;
+					}
+					tokens.add(new int[] { LITERAL, pattern.charAt(j) });
+				}
+				if (j >= len) {
+					throw new IllegalArgumentException("Unterminated quote in pattern: " + pattern);
+				}
+				i = j + 1;
+				continue;
+			}
+			if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')) {
+				int type = typeOf(ch);
+				if (type == LITERAL) {
+					throw new IllegalArgumentException("Unsupported pattern letter '" + ch + "' in: " + pattern);
+				}
+				int j = i + 1;
+				while (j < len && pattern.charAt(j) == ch) {
+					j++;
+				}
+				if (type == MONTH && j - i >= 3) {
+					// MMM/MMMM是月份的名称, 不是数字
+					throw new IllegalArgumentException("Unsupported text month '"
+							+ pattern.substring(i, j) + "' in: " + pattern);
+				}
+				tokens.add(new int[] { type, j - i });
+				i = j;
+				continue;
+			}
+			tokens.add(new int[] { LITERAL, ch });
+			i++;
+		}
+		int[] types = new int[tokens.size()];
+		int[] counts = new int[tokens.size()];
+		for (int i = 0; i < types.length; i++) {
+			types[i] = tokens.get(i)[0];
+			counts[i] = tokens.get(i)[1];
+		}
+		return new DateFormatter(pattern, zone, types, counts);
+	}
+
+	private static int typeOf(char letter) {
+		switch (letter) {
+		case 'y':
+			return YEAR;
+		case 'M':
+			return MONTH;
+		case 'd':
+			return DAY;
+		case 'H':
+			return HOUR;
+		case 'm':
+			return MINUTE;
+		case 's':
+			return SECOND;
+		case 'S':
+			return MILLISECOND;
+		default:
+			return LITERAL;
+		}
+	}
+
+	/**
+	 * 格式化为字符串.
+	 *
+	 * @param millis
+	 *            毫秒时间
+	 * @return 格式化后的字符串
+	 */
+	public String format(long millis) {
+		char[] buf = new char[length + 8];
+		int end = format(millis, buf, 0);
+		return new String(buf, 0, end);
+	}
+
+	/**
+	 * 格式化并追加到给定的StringBuilder, 不产生中间对象.
+	 *
+	 * @param millis
+	 *            毫秒时间
+	 * @param sb
+	 *            结果追加到的StringBuilder
+	 * @return 参数<code>sb</code>
+	 */
+	public StringBuilder format(long millis, StringBuilder sb) {
+		long local = calendar.toLocal(millis);
+		long epochDay = Math.floorDiv(local, ZonedCalendar.MILLIS_PER_DAY);
+		int millisOfDay = (int) Math.floorMod(local, ZonedCalendar.MILLIS_PER_DAY);
+		long ymd = ZonedCalendar.toPackedDate(epochDay);
+		for (int i = 0; i < types.length; i++) {
+			if (types[i] == LITERAL) {
+				sb.append((char) counts[i]);
+				continue;
+			}
+			int value = valueOf(types[i], counts[i], ymd, millisOfDay);
+			for (int digits = digitCount(value); digits < counts[i]; digits++) {
+				sb.append('0');
+			}
+			sb.append(value);
+		}
+		return sb;
+	}
+
+	/**
+	 * 格式化并写入给定的字符数组.
+	 *
+	 * @param millis
+	 *            毫秒时间
+	 * @param buf
+	 *            写入的字符数组, 从<code>offset</code>开始至少要有{@link #length()}个位置
+	 * @param offset
+	 *            写入的起始位置
+	 * @return 写入结束后的下一个位置
+	 */
+	public int format(long millis, char[] buf, int offset) {
+		long local = calendar.toLocal(millis);
+		long epochDay = Math.floorDiv(local, ZonedCalendar.MILLIS_PER_DAY);
+		int millisOfDay = (int) Math.floorMod(local, ZonedCalendar.MILLIS_PER_DAY);
+		return formatLocal(ZonedCalendar.toPackedDate(epochDay), millisOfDay, buf, offset);
+	}
+
+	/**
+	 * 按已算好的本地年月日(见{@link ZonedCalendar#toPackedDate(long)})和当日毫秒数写入字符数组,
+	 * 供批量格式化时复用同一天的年月日.
+	 */
+	int formatLocal(long ymd, int millisOfDay, char[] buf, int offset) {
+		int pos = offset;
+		for (int i = 0; i < types.length; i++) {
+			if (types[i] == LITERAL) {
+				buf[pos++] = (char) counts[i];
+				continue;
+			}
+			int value = valueOf(types[i], counts[i], ymd, millisOfDay);
+			int digits = digitCount(value);
+			for (int pad = digits; pad < counts[i]; pad++) {
+				buf[pos++] = '0';
+			}
+			pos += digits;
+			for (int p = pos - 1; p >= pos - digits; p--) {
+				buf[p] = (char) ('0' + value % 10);
+				value /= 10;
+			}
+		}
+		return pos;
+	}
+
+	/**
+	 * 严格按本格式解析, 不抛出异常. 只有每个字段都是定长(4位年份, 3位毫秒, 其他2位)的格式才支持解析;
+	 * 文本长度不符、含非数字或字段越界(如13月、2月30日)时均返回默认值, 调用方可据此回退到宽松解析.
+	 *
+	 * @param text
+	 *            待解析的文本
+	 * @param defaultValue
+	 *            不能解析时的返回值
+	 * @return 毫秒时间
+	 */
+	public long parseMillis(CharSequence text, long defaultValue) {
+		if (text == null || !parsable || text.length() != length) {
+			return defaultValue;
+		}
+		int year = 1970, month = 1, day = 1, hour = 0, minute = 0, second = 0, milli = 0;
+		int pos = 0;
+		for (int i = 0; i < types.length; i++) {
+			if (types[i] == LITERAL) {
+				if (text.charAt(pos++) != counts[i]) {
+					return defaultValue;
+				}
+				continue;
+			}
+			int value = 0;
+			for (int end = pos + counts[i]; pos < end; pos++) {
+				int digit = text.charAt(pos) - '0';
+				if (digit < 0 || digit > 9) {
+					return defaultValue;
+				}
+				value = value * 10 + digit;
+			}
+			switch (types[i]) {
+			case YEAR:
+				year = value;
+				break;
+			case MONTH:
+				month = value;
+				break;
+			case DAY:
+				day = value;
+				break;
+			case HOUR:
+				hour = value;
+				break;
+			case MINUTE:
+				minute = value;
+				break;
+			case SECOND:
+				second = value;
+				break;
+			default:
+				milli = value;
+			}
+		}
+		if (year < 1 || month < 1 || month > 12 || day < 1
+				|| day > ZonedCalendar.lengthOfMonth(year, month) || hour > 23 || minute > 59
+				|| second > 59) {
+			return defaultValue;
+		}
+		long local = ZonedCalendar.toEpochDay(year, month, day) * ZonedCalendar.MILLIS_PER_DAY
+				+ ((hour * 60 + minute) * 60 + second) * 1000L + milli;
+		return calendar.toUtc(local);
+	}
+
+	private static int valueOf(int type, int count, long ymd, int millisOfDay) {
+		switch (type) {
+		case YEAR:
+			int year = (int) (ymd >> 9);
+			// 同SimpleDateFormat, 按纪年显示; yy只显示最后两位
+			year = (year <= 0) ? 1 - year : year;
+			return (count == 2) ? year % 100 : year;
+		case MONTH:
+			return (int) (ymd >> 5) & 0xF;
+		case DAY:
+			return (int) ymd & 0x1F;
+		case HOUR:
+			return millisOfDay / 3600000;
+		case MINUTE:
+			return millisOfDay / 60000 % 60;
+		case SECOND:
+			return millisOfDay / 1000 % 60;
+		default:
+			return millisOfDay % 1000;
+		}
+	}
+
+	private static int digitCount(int value) {
+		int digits = 1;
+		while (value >= 10) {
+			value /= 10;
+			digits++;
+		}
+		return digits;
+	}
+
+	/**
+	 * @return 格式化结果的长度(年份不超过4位时).
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * @return 是否包含毫秒字段; 不包含时同一秒内的时间格式化结果相同
+	 */
+	boolean hasMillisField() {
+		for (int i = 0; i < types.length; i++) {
+			if (types[i] == MILLISECOND) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	ZonedCalendar getCalendar() {
+		return calendar;
+	}
+
+	/**
+	 * @return 是否支持{@link #parseMillis(CharSequence, long)}
+	 */
+	boolean isParsable() {
+		return parsable;
+	}
+
+	/**
+	 * @return the pattern
+	 */
+	public String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * @return the zone
+	 */
+	public TimeZone getTimeZone() {
+		return zone;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "DateFormatter [pattern=" + pattern + ", zone=" + zone.getID() + "]";
+	}
+}
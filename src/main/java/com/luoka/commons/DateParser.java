@@ -0,0 +1,200 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 多格式日期解析器: 依次尝试多个格式, 返回第一个能解析的结果, 全程不抛出异常. <BR>
+ * 按格式的顺序逐个尝试, 结果与依次调用<code>new SimpleDateFormat(pattern).parse(text)</code>相同:
+ * 定长格式先比较输入长度和分隔符位置, 符合时直接严格解析, 不必创建SimpleDateFormat;
+ * 不符合或严格解析失败时再用SimpleDateFormat宽松解析(通过ParsePosition, 同样不抛异常), 以兼容月日不补零、
+ * 带多余后缀等输入. 因此排在前面的格式即使只能宽松匹配(如"yyyy-MM-dd"匹配"2010-03-28 12:30:00"), 也优先于后面的格式.<br>
+ * 编译后的解析器不可变, 可被多个线程共享.
+ * @since zengqingmeng @ Oct 18, 2026 11:20:47 AM
+ *
+ */
+public final class DateParser {
+
+	/**
+	 * 按格式列表缓存的解析器个数上限, 超出时整体清空.
+	 */
+	private static final int MAX_CACHED_PARSERS = 64;
+
+	private static final ConcurrentHashMap<List<String>, DateParser> PARSERS = new ConcurrentHashMap<List<String>, DateParser>();
+
+	private final List<String> patterns;
+
+	/**
+	 * 按原顺序排列的全部合法格式, 用于宽松解析.
+	 */
+	private final DateFormatCache.CompiledFormat[] formats;
+
+	/**
+	 * 与formats一一对应的定长格式, 不能严格解析的格式为<code>null</code>.
+	 */
+	private final Candidate[] candidates;
+
+	private DateParser(List<String> patterns) {
+		this.patterns = patterns;
+		List<DateFormatCache.CompiledFormat> compiled = new ArrayList<DateFormatCache.CompiledFormat>(patterns.size());
+		List<Candidate> candidates = new ArrayList<Candidate>(patterns.size());
+		for (String pattern : patterns) {
+			DateFormatCache.CompiledFormat format;
+			try {
+				format = DateFormatCache.getInstance().get(pattern);
+			} catch (IllegalArgumentException e) {
+				// 不合法的格式不可能解析成功, 直接忽略
+				continue;
+			}
+			compiled.add(format);
+			DateFormatter formatter = format.getFormatter();
+			candidates.add((formatter != null && formatter.isParsable()) ? new Candidate(formatter) : null);
+		}
+		this.formats = compiled.toArray(new DateFormatCache.CompiledFormat[compiled.size()]);
+		this.candidates = candidates.toArray(new Candidate[candidates.size()]);
+	}
+
+	/**
+	 * 编译给定的格式列表.
+	 *
+	 * @param patterns
+	 *            按优先顺序排列的格式; 其中不合法的格式被忽略
+	 */
+	public static DateParser compile(List<String> patterns) {
+		AssertUtil.notNull(patterns, "patterns is null.");
+		return new DateParser(new ArrayList<String>(patterns));
+	}
+
+	/**
+	 * @see #compile(List)
+	 */
+	public static DateParser compile(String... patterns) {
+		return compile(Arrays.asList(patterns));
+	}
+
+	/**
+	 * 获取给定格式列表对应的解析器, 同样内容的列表只编译一次.
+	 *
+	 * @see #compile(List)
+	 */
+	public static DateParser getInstance(List<String> patterns) {
+		DateParser parser = PARSERS.get(patterns);
+		if (parser != null) {
+			return parser;
+		}
+		parser = compile(patterns);
+		if (PARSERS.size() >= MAX_CACHED_PARSERS) {
+			PARSERS.clear();
+		}
+		PARSERS.put(parser.patterns, parser);
+		return parser;
+	}
+
+	/**
+	 * 解析为毫秒时间.
+	 *
+	 * @param text
+	 *            日期字符串
+	 * @param defaultValue
+	 *            所有格式均不能解析时的返回值
+	 * @return 第一个能解析的格式得到的毫秒时间
+	 */
+	public long parseMillis(String text, long defaultValue) {
+		if (text == null) {
+			return defaultValue;
+		}
+		for (int i = 0; i < formats.length; i++) {
+			Candidate candidate = candidates[i];
+			if (candidate != null && candidate.mayMatch(text)) {
+				// 严格解析成功时与宽松解析的结果相同
+				long millis = candidate.formatter.parseMillis(text, Long.MIN_VALUE);
+				if (millis != Long.MIN_VALUE) {
+					return millis;
+				}
+			}
+			Date date = formats[i].parse(text, new ParsePosition(0));
+			if (date != null) {
+				return date.getTime();
+			}
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * 解析为Date对象.
+	 *
+	 * @return 所有格式均不能解析时返回<code>null</code>.
+	 * @see #parseMillis(String, long)
+	 */
+	public Date parse(String text) {
+		long millis = parseMillis(text, Long.MIN_VALUE);
+		return (millis == Long.MIN_VALUE) ? null : new Date(millis);
+	}
+
+	/**
+	 * @return 按优先顺序排列的格式
+	 */
+	public List<String> getPatterns() {
+		return patterns;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "DateParser " + patterns;
+	}
+
+	/**
+	 * 定长格式及其分隔符所在位置.
+	 */
+	private static final class Candidate {
+		private final DateFormatter formatter;
+		private final int[] separatorPositions;
+		private final char[] separators;
+
+		Candidate(DateFormatter formatter) {
+			this.formatter = formatter;
+			// 定长格式中数字字段总是输出数字, 因此样本中的非数字字符即为分隔符
+			String sample = formatter.format(0L);
+			int count = 0;
+			for (int i = 0; i < sample.length(); i++) {
+				if (!isDigit(sample.charAt(i))) {
+					count++;
+				}
+			}
+			this.separatorPositions = new int[count];
+			this.separators = new char[count];
+			for (int i = 0, j = 0; i < sample.length(); i++) {
+				if (!isDigit(sample.charAt(i))) {
+					separatorPositions[j] = i;
+					separators[j++] = sample.charAt(i);
+				}
+			}
+		}
+
+		boolean mayMatch(String text) {
+			if (text.length() != formatter.length()) {
+				return false;
+			}
+			for (int i = 0; i < separatorPositions.length; i++) {
+				if (text.charAt(separatorPositions[i]) != separators[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static boolean isDigit(char ch) {
+			return ch >= '0' && ch <= '9';
+		}
+	}
+}
@@ -5,11 +5,11 @@ package com.luoka.commons;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 
@@ -48,29 +48,68 @@ public class DateUtil {
 	 */
 	public static final long ONE_MINUTE_SCONDS = 60;
 
+	/**
+	 * 解析失败时返回的毫秒数.
+	 * 
+	 * @see #parseDateToMillis(String)
+	 */
+	public static final long INVALID_MILLIS = Long.MIN_VALUE;
+
+	/**
+	 * {@link #parseDate(String)}默认依次尝试的格式.
+	 */
+	public static final List<String> DEFAULT_PARSE_PATTERNS = Collections
+			.unmodifiableList(Arrays.asList("yyyy-MM-dd", "yyyy/MM/dd",
+					//yyyyMMdd必须放到最后, 否则会影响解析结果!
+					// 比如把2010-03-28解析为20090210
+					"yyyyMMdd"));
+
+	private static final DateParser DEFAULT_PARSER = DateParser
+			.compile(DEFAULT_PARSE_PATTERNS);
+
 	/**
 	 * 默认格式.
+	 * 
+	 * @deprecated SimpleDateFormat非线程安全, 多线程共享会导致结果错乱; 请使用
+	 *             {@link DateFormatter#DATE_TIME}.
 	 */
+	@Deprecated
 	public final static SimpleDateFormat DEFAULT_FORMAT = new SimpleDateFormat(
 			"yyyy-MM-dd HH:mm:ss");
 	/**
 	 * 默认日期格式.
+	 * 
+	 * @deprecated SimpleDateFormat非线程安全, 多线程共享会导致结果错乱; 请使用
+	 *             {@link DateFormatter#DATE}.
 	 */
+	@Deprecated
 	public final static SimpleDateFormat DATE_FORMAT = new SimpleDateFormat(
 			"yyyy-MM-dd");
 	/**
 	 * 默认时间格式.
+	 * 
+	 * @deprecated SimpleDateFormat非线程安全, 多线程共享会导致结果错乱; 请使用
+	 *             {@link DateFormatter#TIME}.
 	 */
+	@Deprecated
 	public final static SimpleDateFormat TIME_FORMAT = new SimpleDateFormat(
 			"HH:mm:ss");
 	/**
 	 * 精确到小时的时间格式.
+	 * 
+	 * @deprecated SimpleDateFormat非线程安全, 多线程共享会导致结果错乱; 请使用
+	 *             {@link DateFormatter#DATE_HOUR}.
 	 */
+	@Deprecated
 	public final static SimpleDateFormat TIMEAREA_FORMAT = new SimpleDateFormat(
 			STR_YYYYMMDD_HH);
 	/**
 	 * 精确到分钟的时间格式.
+	 * 
+	 * @deprecated SimpleDateFormat非线程安全, 多线程共享会导致结果错乱; 请使用
+	 *             {@link DateFormatter#DATE_MINUTE}.
 	 */
+	@Deprecated
 	public final static SimpleDateFormat TIMEAREA_MIN_FORMAT = new SimpleDateFormat(
 			"yyyy-MM-dd HH:mm");
 
@@ -218,9 +257,7 @@ public class DateUtil {
 	 * 
 	 */
 	public static int getYear(long timestamp) {
-		Date now = new Date(timestamp);
-		Calendar cal = toCalendar(now);
-		return cal.get(Calendar.YEAR);
+		return ZonedCalendar.getDefault().year(timestamp);
 	}
 
 	/**
@@ -263,6 +300,21 @@ public class DateUtil {
 		if (StringHelper.isEmpty(dateFormat))
 			return getCurrentTimeMillis();
 
+		// 常用格式直接截断, 省去格式化再解析的往返
+		long now = getCurrentTimeMillis();
+		if (DateFormatter.DATE.getPattern().equals(dateFormat)) {
+			return ZonedCalendar.getDefault().dayStart(now);
+		}
+		if (STR_YYYYMMDD_HH.equals(dateFormat)) {
+			return ZonedCalendar.getDefault().hourStart(now);
+		}
+		if (DEFAULT_TIME_PATTERN.equals(dateFormat)) {
+			return now - Math.floorMod(ZonedCalendar.getDefault().toLocal(now), 60000L);
+		}
+		if (DateFormatter.DATE_TIME.getPattern().equals(dateFormat)) {
+			return now - Math.floorMod(now, 1000L);
+		}
+
 		String date = DateUtil.date2String(new Date(), dateFormat);
 		if (null == date)
 			return getCurrentTimeMillis();
@@ -285,7 +337,7 @@ public class DateUtil {
             return null;
         }
         try {
-            return new SimpleDateFormat(dateFormat).parse(dateString);
+            return DateFormatCache.getInstance().get(dateFormat).parse(dateString);
         } catch (Exception e) {
             return null;
         }
@@ -322,7 +374,7 @@ public class DateUtil {
             return null;
         }
         try {
-            return new SimpleDateFormat(pattern).format(date);
+            return DateFormatCache.getInstance().get(pattern).format(date);
         } catch (Exception e) {
             return null;
         }
@@ -417,8 +469,7 @@ public class DateUtil {
 	 * @return 转换后的时间字符串
 	 */
 	public static final String millis2String(long dateMillis, String pattern) {
-		SimpleDateFormat format = new SimpleDateFormat(pattern);
-		return format.format(new Date(dateMillis));
+		return DateFormatCache.getInstance().get(pattern).format(dateMillis);
 	}
 
 	/**
@@ -476,14 +527,8 @@ public class DateUtil {
 	 * @return
 	 */
 	public static final long getDayDurationAsMillis(int duration) {
-		Calendar current = Calendar.getInstance();
-		Calendar nextDay = Calendar.getInstance();
-		nextDay.set(Calendar.DAY_OF_MONTH, current.get(Calendar.DAY_OF_MONTH)
-				+ duration);
-		nextDay.set(Calendar.HOUR, 0);
-		nextDay.set(Calendar.MINUTE, 0);
-		nextDay.set(Calendar.SECOND, 0);
-		return nextDay.getTimeInMillis() - current.getTimeInMillis();
+		long now = System.currentTimeMillis();
+		return ZonedCalendar.getDefault().nextDayStart(now, duration) - now;
 	}
 
 	/**
@@ -492,12 +537,8 @@ public class DateUtil {
 	 * @return
 	 */
 	public static final long getHourDurationAsMillis(int duration) {
-		Calendar current = Calendar.getInstance();
-		Calendar nextHour = Calendar.getInstance();
-		nextHour.set(Calendar.HOUR, current.get(Calendar.HOUR) + duration);
-		nextHour.set(Calendar.MINUTE, 0);
-		nextHour.set(Calendar.SECOND, 0);
-		return nextHour.getTimeInMillis() - current.getTimeInMillis();
+		long now = System.currentTimeMillis();
+		return ZonedCalendar.getDefault().nextHourStart(now, duration) - now;
 	}
 
 	/**
@@ -536,7 +577,7 @@ public class DateUtil {
 	 * @return 字符串类型的时间
 	 */
 	public static String formatMillisMin(long timeMillis) {
-		return TIMEAREA_MIN_FORMAT.format(new Date(timeMillis));
+		return DateFormatter.DATE_MINUTE.format(timeMillis);
 	}
 
 	/**
@@ -547,7 +588,36 @@ public class DateUtil {
 	 * @return 字符串类型的时间
 	 */
 	public static String formatMillis(long timeMillis) {
-		return DEFAULT_FORMAT.format(new Date(timeMillis));
+		return DateFormatter.DATE_TIME.format(timeMillis);
+	}
+
+	/**
+	 * 将整数型的毫秒数以默认的时间格式追加到给定的StringBuilder中, 不创建中间对象.
+	 * 
+	 * @param timeMillis
+	 *            整数型的毫秒数
+	 * @param sb
+	 *            追加到的StringBuilder
+	 * @return 参数<code>sb</code>
+	 */
+	public static StringBuilder formatMillis(long timeMillis, StringBuilder sb) {
+		return DateFormatter.DATE_TIME.format(timeMillis, sb);
+	}
+
+	/**
+	 * 将一列毫秒数以默认的时间格式批量格式化到同一个字符数组中, 每个值之后跟一个分隔符;
+	 * 数组较大时并行处理.
+	 * 
+	 * @param timeMillis
+	 *            整数型的毫秒数
+	 * @param separator
+	 *            分隔符, 如'\n'
+	 * @return 所有结果依次排列的字符数组
+	 * @see TimestampColumns#format(DateFormatter, long[], char, boolean)
+	 */
+	public static char[] formatMillis(long[] timeMillis, char separator) {
+		return TimestampColumns.format(DateFormatter.DATE_TIME, timeMillis,
+				separator, true);
 	}
 
 	/**
@@ -556,7 +626,7 @@ public class DateUtil {
 	 * @return
 	 */
 	public static String formatTimeArea(long timeMillis) {
-		return TIMEAREA_FORMAT.format(new Date(timeMillis));
+		return DateFormatter.DATE_HOUR.format(timeMillis);
 	}
 
 	/**
@@ -565,7 +635,7 @@ public class DateUtil {
 	 * @return
 	 */
 	public static String formatMillis2Date(long timeMillis) {
-		return DATE_FORMAT.format(new Date(timeMillis));
+		return DateFormatter.DATE.format(timeMillis);
 	}
 
 	/**
@@ -574,7 +644,7 @@ public class DateUtil {
 	 * @return
 	 */
 	public static String formatMillis2Time(long timeMillis) {
-		return TIME_FORMAT.format(new Date(timeMillis));
+		return DateFormatter.TIME.format(timeMillis);
 	}
 
 	/**
@@ -592,38 +662,28 @@ public class DateUtil {
 	 */
 	public static String formatMillis(long timeMillis, String format,
 			Locale locale) {
-		SimpleDateFormat sdf = (locale == null) ? new SimpleDateFormat(format)
-				: new SimpleDateFormat(format, locale);
-		return sdf.format(new Date(timeMillis));
+		return DateFormatCache.getInstance().get(format, locale, null).format(timeMillis);
 	}
 
 	/**
-	 * 将<code>{@link DateUtil#DATE_FORMAT}</code>格式的日期字符串转换为当天0时的毫秒时间
+	 * 将<code>{@link DateFormatter#DATE}</code>格式的日期字符串转换为当天0时的毫秒时间
 	 * 
 	 * @param date
-	 *            <code>{@link DateUtil#DATE_FORMAT}</code>格式的日期字符串
+	 *            <code>{@link DateFormatter#DATE}</code>格式的日期字符串
 	 * @return 当天0时的毫秒时间
 	 */
 	public static long formatDate2Millis(String date) {
-		try {
-			return DATE_FORMAT.parse(date).getTime();
-		} catch (ParseException e) {
-			return 0;
-		}
+		return parseMillis(DateFormatter.DATE, date, 0);
 	}
 
 	/**
-	 * 将<code>{@link DateUtil#DEFAULT_FORMAT}</code>格式的时间转换为毫秒时间
+	 * 将<code>{@link DateFormatter#DATE_TIME}</code>格式的时间转换为毫秒时间
 	 * 
 	 * @param dateTime
 	 * @return
 	 */
 	public static long formatDateTime(String dateTime) {
-		try {
-			return DEFAULT_FORMAT.parse(dateTime).getTime();
-		} catch (ParseException e) {
-			return 0;
-		}
+		return parseMillis(DateFormatter.DATE_TIME, dateTime, 0);
 	}
 
 	/**
@@ -632,11 +692,8 @@ public class DateUtil {
 	 * @return
 	 */
 	public static Date format(String dateTime) {
-		try {
-			return DEFAULT_FORMAT.parse(dateTime);
-		} catch (ParseException e) {
-			return null;
-		}
+		long millis = parseMillis(DateFormatter.DATE_TIME, dateTime, Long.MIN_VALUE);
+		return (millis == Long.MIN_VALUE) ? null : new Date(millis);
 	}
 
 	/**
@@ -645,25 +702,49 @@ public class DateUtil {
 	 * @return
 	 */
 	public static String format2String(Date date) {
-		return DEFAULT_FORMAT.format(date);
+		return DateFormatter.DATE_TIME.format(date.getTime());
 	}
 
 	/**
-	 * 将<code>{@link DateUtil#DEFAULT_FORMAT}</code>格式的时间转换为毫秒时间，若格式不正确返回默认值
+	 * 将<code>{@link DateFormatter#DATE_TIME}</code>格式的时间转换为毫秒时间，若格式不正确返回默认值
 	 * 
 	 * @param dateTime
 	 * @return
 	 */
 	public static long formatDateTime(String dateTime, long defaultValue) {
+		return parseMillis(DateFormatter.DATE_TIME, dateTime, defaultValue);
+	}
+
+	/**
+	 * 将一列<code>{@link DateFormatter#DATE_TIME}</code>格式的时间批量转换为毫秒时间, 格式不正确的返回默认值;
+	 * 数组较大时并行处理.
+	 * 
+	 * @see TimestampColumns#parse(DateFormatter, CharSequence[], long, boolean)
+	 */
+	public static long[] formatDateTime(String[] dateTimes, long defaultValue) {
+		return TimestampColumns.parse(DateFormatter.DATE_TIME, dateTimes,
+				defaultValue, true);
+	}
+
+	/**
+	 * 先按预编译的格式严格解析；不符合时(如月日不补零、带有多余字符)再用缓存的SimpleDateFormat宽松解析,
+	 * 以保持与原有行为一致.
+	 */
+	private static long parseMillis(DateFormatter formatter, String text,
+			long defaultValue) {
+		long millis = formatter.parseMillis(text, Long.MIN_VALUE);
+		if (millis != Long.MIN_VALUE) {
+			return millis;
+		}
 		try {
-			return DEFAULT_FORMAT.parse(dateTime).getTime();
+			return DateFormatCache.getInstance().get(formatter.getPattern()).parse(text).getTime();
 		} catch (ParseException e) {
 			return defaultValue;
 		}
 	}
 
 	/**
-	 * 将时间戳显示为<code>{@link DateUtil#DEFAULT_FORMAT}</code>的格式，若时间戳为负值则返回默认值.
+	 * 将时间戳显示为<code>{@link DateFormatter#DATE_TIME}</code>的格式，若时间戳为负值则返回默认值.
 	 * 
 	 * @param timeMillis
 	 *            时间戳
@@ -673,8 +754,8 @@ public class DateUtil {
 	 */
 	public static String formatMillisWithDefaultValue(long timeMillis,
 			String defaultValue) {
-		return (timeMillis < 0) ? defaultValue : DEFAULT_FORMAT
-				.format(new Date(timeMillis));
+		return (timeMillis < 0) ? defaultValue : DateFormatter.DATE_TIME
+				.format(timeMillis);
 	}
 
 	/**
@@ -688,12 +769,31 @@ public class DateUtil {
 	}
 
 	/**
-	 * 获取当前的日期时间的字符串表示
+	 * 获取当前的日期时间的字符串表示; 取自{@link CachedClock}, 不做格式化.
 	 * 
 	 * @return
 	 */
 	public static String getCurrentDateTime() {
-		return formatMillis(System.currentTimeMillis());
+		return CachedClock.getDefault().currentDateTime();
+	}
+
+	/**
+	 * 获取当前日期的字符串表示(yyyy-MM-dd); 取自{@link CachedClock}, 不做格式化.
+	 * 
+	 * @return
+	 */
+	public static String getCurrentDate() {
+		return CachedClock.getDefault().currentDate();
+	}
+
+	/**
+	 * 获取粗粒度的当前时间（毫秒）, 最多落后{@link CachedClock#DEFAULT_RESOLUTION}毫秒;
+	 * 适合只需大致时间的高频场景. 需要精确时间时使用{@link #getCurrentTimeMillis()}.
+	 * 
+	 * @return 当前的时间，以毫秒为单位
+	 */
+	public static long getCoarseTimeMillis() {
+		return CachedClock.getDefault().currentTimeMillis();
 	}
 
 	/**
@@ -719,10 +819,8 @@ public class DateUtil {
 	 * @return
 	 */
 	public static int getMondayPlus(long date) {
-		Calendar cd = Calendar.getInstance();
 		// 获得今天是一周的第几天，星期日是第一天，星期二是第二天......
-		cd.setTimeInMillis(date);
-		int dayOfWeek = cd.get(Calendar.DAY_OF_WEEK) - 1; // 因为按中国礼拜一作为第一天所以这里减1
+		int dayOfWeek = ZonedCalendar.getDefault().dayOfWeek(date) - 1; // 因为按中国礼拜一作为第一天所以这里减1
 		if (dayOfWeek == 1) {
 			return 0;
 		} else {
@@ -740,10 +838,7 @@ public class DateUtil {
 	public static long getPreviousWeekday(long date) {
 		int weeks = -1;
 		int mondayPlus = getMondayPlus(date);
-		GregorianCalendar currentDate = new GregorianCalendar();
-		currentDate.setTimeInMillis(date);
-		currentDate.add(GregorianCalendar.DATE, mondayPlus + 7 * weeks);
-		return currentDate.getTimeInMillis();
+		return ZonedCalendar.getDefault().plusDays(date, mondayPlus + 7 * weeks);
 	}
 
 	/**
@@ -755,10 +850,7 @@ public class DateUtil {
 	 */
 	public static long getMondayOFWeek(long date) {
 		int mondayPlus = getMondayPlus(date);
-		GregorianCalendar currentDate = new GregorianCalendar();
-		currentDate.setTimeInMillis(date);
-		currentDate.add(GregorianCalendar.DATE, mondayPlus);
-		return currentDate.getTimeInMillis();
+		return ZonedCalendar.getDefault().plusDays(date, mondayPlus);
 	}
 
 	/**
@@ -769,11 +861,9 @@ public class DateUtil {
 	 * @return 上月第一天的时间
 	 */
 	public static long getPreviousMonthFirst(long date) {
-		Calendar lastDate = Calendar.getInstance();
-		lastDate.setTimeInMillis(date);
-		lastDate.set(Calendar.DATE, 1); // 设为当前月的1号
-		lastDate.add(Calendar.MONTH, -1); // 减一个月，变为下月的1号
-		return lastDate.getTimeInMillis();
+		ZonedCalendar calendar = ZonedCalendar.getDefault();
+		// 设为当前月的1号, 再减一个月
+		return calendar.plusMonths(calendar.withDayOfMonth(date, 1), -1);
 	}
 
 	/**
@@ -784,10 +874,7 @@ public class DateUtil {
 	 * @return 当月第一天的时间
 	 */
 	public static long getFirstDayOfMonth(long date) {
-		Calendar lastDate = Calendar.getInstance();
-		lastDate.setTimeInMillis(date);
-		lastDate.set(Calendar.DATE, 1); // 设为当前月的1号
-		return lastDate.getTimeInMillis();
+		return ZonedCalendar.getDefault().withDayOfMonth(date, 1); // 设为当前月的1号
 	}
 
 	/**
@@ -806,7 +893,7 @@ public class DateUtil {
 	 * @return
 	 */
 	public static String format2String(Date date, String pattern) {
-		return new SimpleDateFormat(pattern).format(date);
+		return DateFormatCache.getInstance().get(pattern).format(date);
 	}
 
 	/**
@@ -815,7 +902,8 @@ public class DateUtil {
 	 * @return
 	 */
 	public static long getTodayRemainAsSecond() {
-		return (getNextDayBeginAsMillis() - DateUtil.getCurrentTimeMillis()) / 1000;
+		long now = DateUtil.getCurrentTimeMillis();
+		return (ZonedCalendar.getDefault().nextDayStart(now, 1) - now) / 1000;
 	}
 
 	/**
@@ -824,7 +912,8 @@ public class DateUtil {
 	 * @return
 	 */
 	public static long getCurrentHourRemainAsSecond() {
-		return (getNextHourBeginAsMillis() - DateUtil.getCurrentTimeMillis()) / 1000;
+		long now = DateUtil.getCurrentTimeMillis();
+		return (ZonedCalendar.getDefault().nextHourStart(now, 1) - now) / 1000;
 	}
 
 	/**
@@ -844,12 +933,7 @@ public class DateUtil {
 	 * @return
 	 */
 	public static long getNextDayBeginAsMillis(int days) {
-		Calendar calendar = Calendar.getInstance();
-		calendar.add(Calendar.DAY_OF_MONTH, days); // 当前时间加一 ，然后时分秒设为0，00:00:00
-		calendar.set(Calendar.HOUR_OF_DAY, 0);
-		calendar.set(Calendar.SECOND, 0);
-		calendar.set(Calendar.MINUTE, 0);
-		return calendar.getTimeInMillis();
+		return ZonedCalendar.getDefault().nextDayStart(getCurrentTimeMillis(), days);
 	}
 
 	/**
@@ -869,11 +953,51 @@ public class DateUtil {
 	 * @return
 	 */
 	public static long getNextHourBeginAsMillis(int hours) {
-		Calendar calendar = Calendar.getInstance();
-		calendar.add(Calendar.HOUR_OF_DAY, 1); // 当前时间加一 ，然后时分秒设为0，00:00:00
-		calendar.set(Calendar.SECOND, 0);
-		calendar.set(Calendar.MINUTE, 0);
-		return calendar.getTimeInMillis();
+		return ZonedCalendar.getDefault().nextHourStart(getCurrentTimeMillis(), hours);
+	}
+
+	/**
+	 * 获取给定时刻所在日0点的毫秒数.
+	 * 
+	 * @param millis
+	 *            给定时刻
+	 * @return 当日0点的毫秒数
+	 */
+	public static long getDayStartAsMillis(long millis) {
+		return ZonedCalendar.getDefault().dayStart(millis);
+	}
+
+	/**
+	 * 获取给定时刻所在小时开始的毫秒数.
+	 * 
+	 * @param millis
+	 *            给定时刻
+	 * @return 所在小时开始的毫秒数
+	 */
+	public static long getHourStartAsMillis(long millis) {
+		return ZonedCalendar.getDefault().hourStart(millis);
+	}
+
+	/**
+	 * 获取给定时刻所在周(周一为一周的第一天)周一0点的毫秒数.
+	 * 
+	 * @param millis
+	 *            给定时刻
+	 * @return 所在周周一0点的毫秒数
+	 */
+	public static long getWeekStartAsMillis(long millis) {
+		return ZonedCalendar.getDefault().weekStart(millis);
+	}
+
+	/**
+	 * 获取给定时刻所在月1日0点的毫秒数.
+	 * 
+	 * @param millis
+	 *            给定时刻
+	 * @return 所在月1日0点的毫秒数
+	 */
+	public static long getMonthStartAsMillis(long millis) {
+		return ZonedCalendar.getDefault().monthStart(millis);
 	}
 
 	/**
@@ -967,12 +1091,12 @@ public class DateUtil {
 	}
 
 	/**
-	 * 智能解析时间；（依次按 {@link #prepareDefaultPatterns()} 返回的格式去解析)
+	 * 智能解析时间；（依次按 {@link #DEFAULT_PARSE_PATTERNS} 中的格式去解析)
 	 * 
 	 * @see #parseDate(String, List)
 	 */
 	public static Date parseDate(String date) {
-		return parseDate(date, prepareDefaultPatterns());
+		return DEFAULT_PARSER.parse(date);
 	}
 
 	/**
@@ -986,26 +1110,33 @@ public class DateUtil {
 		if (date == null) {
 			return null;
 		}
+		return DateParser.getInstance(patterns).parse(date);
+	}
 
-		for (Iterator<String> iterator = patterns.iterator(); iterator
-				.hasNext();) {
-			String pattern = iterator.next();
-			try {
-				return new SimpleDateFormat(pattern).parse(date);
-			} catch (Exception e) {
-			}
-		}
-		return null;
+	/**
+	 * 智能解析时间为毫秒数, 不抛出异常；（依次按 {@link #DEFAULT_PARSE_PATTERNS} 中的格式去解析)
+	 * 
+	 * @param date
+	 *            字符串表示的时间
+	 * @return 毫秒数; 不能解析时返回{@link #INVALID_MILLIS}
+	 * @see #parseDateToMillis(String, List)
+	 */
+	public static long parseDateToMillis(String date) {
+		return DEFAULT_PARSER.parseMillis(date, INVALID_MILLIS);
 	}
 
-	private static List<String> prepareDefaultPatterns() {
-		List<String> patterns = new ArrayList<String>();
-		patterns.add("yyyy-MM-dd");
-		patterns.add("yyyy/MM/dd");
-		//yyyyMMdd必须放到最后, 否则会影响解析结果!
-		// 比如把2010-03-28解析为20090210
-		patterns.add("yyyyMMdd");
-		return patterns;
+	/**
+	 * 智能解析时间为毫秒数, 不抛出异常；（依次按格式去解析，返回第一个符合的)
+	 * 
+	 * @param date
+	 *            字符串表示的时间
+	 * @param patterns
+	 *            按优先顺序排列的格式
+	 * @return 毫秒数; 不能解析时返回{@link #INVALID_MILLIS}
+	 * @see DateParser
+	 */
+	public static long parseDateToMillis(String date, List<String> patterns) {
+		return DateParser.getInstance(patterns).parseMillis(date, INVALID_MILLIS);
 	}
 
 }
@@ -0,0 +1,324 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * int数组的集合运算: 差集、交集、并集、包含、相等, 不装箱. <BR>
+ * 数组按集合看待(忽略顺序和重复), 返回的数组升序且不重复. 两个数组大小相近时排序后归并;
+ * 大小悬殊时只排序较小的一方(或结果所在的一方), 较大的一方放入{@link IntSet}用于查找, 避免对大数组排序.
+ * 数组很大时排序({@link Arrays#parallelSort(int[])})和查找都通过fork/join并行.<br>
+ * 参数数组不会被修改.
+ * @since zengqingmeng @ Oct 19, 2026 12:20:47 AM
+ *
+ * @see IntSet
+ */
+public final class IntArrays {
+
+	/**
+	 * 两个数组的长度之比不超过此值时, 用排序加归并.
+	 */
+	private static final int MERGE_RATIO = 4;
+
+	/**
+	 * 元素个数达到此值时并行查找.
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	/**
+	 * 并行查找时每个任务处理的元素个数.
+	 */
+	private static final int PARALLEL_CHUNK = 1 << 13;
+
+	private static final int[] EMPTY = new int[0];
+
+	/**
+	 * 禁止构造.
+	 */
+	private IntArrays() {
+	}
+
+	/**
+	 * @return 在<code>a</code>中而不在<code>b</code>中的值
+	 */
+	public static int[] difference(int[] a, int[] b) {
+		AssertUtil.notNull(a, "a is null.");
+		AssertUtil.notNull(b, "b is null.");
+		if (a.length == 0) {
+			return EMPTY;
+		}
+		if (b.length == 0) {
+			return sortedDistinct(a);
+		}
+		int[] sortedA = sortedDistinct(a);
+		if (isComparable(a.length, b.length)) {
+			int[] sortedB = sortedDistinct(b);
+			int[] result = new int[sortedA.length];
+			int size = 0;
+			int j = 0;
+			for (int value : sortedA) {
+				while (j < sortedB.length && sortedB[j] < value) {
+					j++;
+				}
+				if (j == sortedB.length || sortedB[j] != value) {
+					result[size++] = value;
+				}
+			}
+			return trim(result, size);
+		}
+		return retain(sortedA, IntSet.of(b), false);
+	}
+
+	/**
+	 * @return 同时在<code>a</code>和<code>b</code>中的值
+	 */
+	public static int[] intersection(int[] a, int[] b) {
+		AssertUtil.notNull(a, "a is null.");
+		AssertUtil.notNull(b, "b is null.");
+		if (a.length == 0 || b.length == 0) {
+			return EMPTY;
+		}
+		if (isComparable(a.length, b.length)) {
+			int[] sortedA = sortedDistinct(a);
+			int[] sortedB = sortedDistinct(b);
+			int[] result = new int[Math.min(sortedA.length, sortedB.length)];
+			int size = 0;
+			int i = 0;
+			int j = 0;
+			while (i < sortedA.length && j < sortedB.length) {
+				if (sortedA[i] < sortedB[j]) {
+					i++;
+				} else if (sortedA[i] > sortedB[j]) {
+					j++;
+				} else {
+					result[size++] = sortedA[i];
+					i++;
+					j++;
+				}
+			}
+			return trim(result, size);
+		}
+		// 排序较小的一方, 在较大的一方中查找
+		int[] small = (a.length < b.length) ? a : b;
+		int[] large = (small == a) ? b : a;
+		return retain(sortedDistinct(small), IntSet.of(large), true);
+	}
+
+	/**
+	 * @return 在<code>a</code>或<code>b</code>中的值
+	 */
+	public static int[] union(int[] a, int[] b) {
+		AssertUtil.notNull(a, "a is null.");
+		AssertUtil.notNull(b, "b is null.");
+		int[] all = new int[a.length + b.length];
+		System.arraycopy(a, 0, all, 0, a.length);
+		System.arraycopy(b, 0, all, a.length, b.length);
+		Arrays.parallelSort(all);
+		return trim(all, dedupSorted(all));
+	}
+
+	/**
+	 * @return <code>b</code>中的值是否都在<code>a</code>中
+	 */
+	public static boolean containsAll(int[] a, int[] b) {
+		AssertUtil.notNull(a, "a is null.");
+		AssertUtil.notNull(b, "b is null.");
+		if (b.length == 0) {
+			return true;
+		}
+		if (a.length == 0) {
+			return false;
+		}
+		return containsAll(IntSet.of(a), b);
+	}
+
+	/**
+	 * @return 两个数组作为集合是否相等
+	 */
+	public static boolean equalsAsSet(int[] a, int[] b) {
+		AssertUtil.notNull(a, "a is null.");
+		AssertUtil.notNull(b, "b is null.");
+		if (a.length == 0 || b.length == 0) {
+			return a.length == b.length;
+		}
+		if (isComparable(a.length, b.length)) {
+			return Arrays.equals(sortedDistinct(a), sortedDistinct(b));
+		}
+		// 长度悬殊时较长的一方必有大量重复, 去重后比较
+		IntSet setA = IntSet.of(a);
+		IntSet setB = IntSet.of(b);
+		return setA.size() == setB.size() && containsAll(setA, b);
+	}
+
+	private static boolean isComparable(int length, int anotherLength) {
+		return length / MERGE_RATIO <= anotherLength && anotherLength / MERGE_RATIO <= length;
+	}
+
+	/**
+	 * @return 是否值得并行处理<code>length</code>个元素
+	 */
+	static boolean isParallel(int length) {
+		return length >= PARALLEL_THRESHOLD && CollectionUtil.isParallelAvailable();
+	}
+
+	/**
+	 * @return 排序并去重后的副本
+	 */
+	static int[] sortedDistinct(int[] values) {
+		int[] copy = values.clone();
+		Arrays.parallelSort(copy);
+		return trim(copy, dedupSorted(copy));
+	}
+
+	/**
+	 * 去掉有序数组中的重复值.
+	 *
+	 * @return 去重后的长度
+	 */
+	private static int dedupSorted(int[] sorted) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int size = 1;
+		for (int i = 1; i < sorted.length; i++) {
+			if (sorted[i] != sorted[size - 1]) {
+				sorted[size++] = sorted[i];
+			}
+		}
+		return size;
+	}
+
+	private static int[] trim(int[] values, int size) {
+		return (size == values.length) ? values : Arrays.copyOf(values, size);
+	}
+
+	private static boolean containsAll(final IntSet set, int[] values) {
+		if (isParallel(values.length)) {
+			return ForkJoinPool.commonPool().invoke(
+					new ContainsAllTask(set, values, 0, values.length)).booleanValue();
+		}
+		for (int value : values) {
+			if (!set.contains(value)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 保留<code>values</code>中在(或不在)<code>set</code>中的值, 保持原来的顺序和重复.
+	 *
+	 * @param contained
+	 *            为<code>true</code>时保留在set中的值, 否则保留不在set中的值
+	 */
+	static int[] retain(int[] values, IntSet set, boolean contained) {
+		if (isParallel(values.length)) {
+			boolean[] keep = new boolean[values.length];
+			ForkJoinPool.commonPool().invoke(
+					new MarkTask(set, contained, values, keep, 0, values.length));
+			int size = 0;
+			for (int i = 0; i < values.length; i++) {
+				if (keep[i]) {
+					size++;
+				}
+			}
+			int[] result = new int[size];
+			size = 0;
+			for (int i = 0; i < values.length; i++) {
+				if (keep[i]) {
+					result[size++] = values[i];
+				}
+			}
+			return result;
+		}
+		int[] result = new int[values.length];
+		int size = 0;
+		for (int value : values) {
+			if (set.contains(value) == contained) {
+				result[size++] = value;
+			}
+		}
+		return trim(result, size);
+	}
+
+	/**
+	 * 并行检查一段值是否都在集合中; 集合只被读取, 可以被多个任务共享.
+	 */
+	private static final class ContainsAllTask extends RecursiveTask<Boolean> {
+		private static final long serialVersionUID = 1L;
+
+		private final IntSet set;
+		private final int[] values;
+		private final int from;
+		private final int to;
+
+		ContainsAllTask(IntSet set, int[] values, int from, int to) {
+			this.set = set;
+			this.values = values;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Boolean compute() {
+			if (to - from <= PARALLEL_CHUNK) {
+				for (int i = from; i < to; i++) {
+					if (!set.contains(values[i])) {
+						return Boolean.FALSE;
+					}
+				}
+				return Boolean.TRUE;
+			}
+			int middle = (from + to) >>> 1;
+			ContainsAllTask right = new ContainsAllTask(set, values, middle, to);
+			right.fork();
+			boolean left = new ContainsAllTask(set, values, from, middle).compute().booleanValue();
+			if (!left) {
+				right.cancel(false);
+				return Boolean.FALSE;
+			}
+			return right.join();
+		}
+	}
+
+	/**
+	 * 并行标记一段值是否保留.
+	 */
+	private static final class MarkTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final IntSet set;
+		private final boolean contained;
+		private final int[] values;
+		private final boolean[] keep;
+		private final int from;
+		private final int to;
+
+		MarkTask(IntSet set, boolean contained, int[] values, boolean[] keep, int from, int to) {
+			this.set = set;
+			this.contained = contained;
+			this.values = values;
+			this.keep = keep;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= PARALLEL_CHUNK) {
+				for (int i = from; i < to; i++) {
+					keep[i] = set.contains(values[i]) == contained;
+				}
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new MarkTask(set, contained, values, keep, from, middle),
+					new MarkTask(set, contained, values, keep, middle, to));
+		}
+	}
+}
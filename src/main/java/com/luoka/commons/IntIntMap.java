@@ -0,0 +1,296 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.Arrays;
+
+/**
+ * int到int的哈希表, 开放寻址(线性探测), 键和值都不装箱. <BR>
+ * 与{@link IntSet}相同, 键0单独记录, 删除时前移探测链上的元素. 常用于按ID计数, 见{@link #increment(int, int)}.
+ * 非线程安全.
+ * @since zengqingmeng @ Oct 18, 2026 11:58:20 PM
+ *
+ * @see IntSet
+ */
+public final class IntIntMap {
+
+	private int[] keys;
+
+	private int[] values;
+
+	/**
+	 * 表中键的个数, 不含0.
+	 */
+	private int assigned;
+
+	private boolean containsZeroKey;
+
+	private int zeroValue;
+
+	private int mask;
+
+	private int resizeAt;
+
+	public IntIntMap() {
+		this(0);
+	}
+
+	/**
+	 * @param expectedSize
+	 *            预计的键个数, 达到此数目前不会扩容
+	 */
+	public IntIntMap(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Illegal expectedSize: " + expectedSize);
+		}
+		allocate(IntSet.tableSize(expectedSize));
+	}
+
+	private void allocate(int capacity) {
+		keys = new int[capacity];
+		values = new int[capacity];
+		mask = capacity - 1;
+		resizeAt = (capacity == IntSet.MAX_CAPACITY) ? capacity - 1 : (int) (capacity * IntSet.LOAD_FACTOR);
+	}
+
+	/**
+	 * @return 键所在的位置, 不存在时返回-1
+	 */
+	private int slotOf(int key) {
+		int[] keys = this.keys;
+		int slot = IntSet.mix(key) & mask;
+		for (int existing; (existing = keys[slot]) != 0; slot = (slot + 1) & mask) {
+			if (existing == key) {
+				return slot;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param defVal
+	 *            默认值
+	 * @return 键对应的值, 不存在时返回<code>defVal</code>
+	 */
+	public int get(int key, int defVal) {
+		if (key == 0) {
+			return containsZeroKey ? zeroValue : defVal;
+		}
+		int slot = slotOf(key);
+		return (slot < 0) ? defVal : values[slot];
+	}
+
+	public boolean containsKey(int key) {
+		return (key == 0) ? containsZeroKey : slotOf(key) >= 0;
+	}
+
+	/**
+	 * 放入键值, 覆盖已有的值.
+	 *
+	 * @return 原来的值, 不存在时返回0
+	 */
+	public int put(int key, int value) {
+		return putOrAdd(key, value, false);
+	}
+
+	/**
+	 * 把键对应的值加上<code>delta</code>, 不存在时视为0.
+	 *
+	 * @return 相加后的值
+	 */
+	public int increment(int key, int delta) {
+		return putOrAdd(key, delta, true) + delta;
+	}
+
+	/**
+	 * @return 原来的值, 不存在时返回0
+	 */
+	private int putOrAdd(int key, int value, boolean add) {
+		if (key == 0) {
+			int old = containsZeroKey ? zeroValue : 0;
+			zeroValue = add ? old + value : value;
+			containsZeroKey = true;
+			return old;
+		}
+		int[] keys = this.keys;
+		int slot = IntSet.mix(key) & mask;
+		for (int existing; (existing = keys[slot]) != 0; slot = (slot + 1) & mask) {
+			if (existing == key) {
+				int old = values[slot];
+				values[slot] = add ? old + value : value;
+				return old;
+			}
+		}
+		if (assigned == resizeAt) {
+			if (keys.length == IntSet.MAX_CAPACITY) {
+				throw new IllegalStateException("IntIntMap is full: " + assigned);
+			}
+			rehash(keys.length << 1);
+			return putOrAdd(key, value, add);
+		}
+		keys[slot] = key;
+		values[slot] = value;
+		assigned++;
+		return 0;
+	}
+
+	private void rehash(int newCapacity) {
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(newCapacity);
+		int[] keys = this.keys;
+		int mask = this.mask;
+		for (int i = 0; i < oldKeys.length; i++) {
+			int key = oldKeys[i];
+			if (key != 0) {
+				int slot = IntSet.mix(key) & mask;
+				while (keys[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = key;
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	/**
+	 * 删除键.
+	 *
+	 * @param defVal
+	 *            默认值
+	 * @return 原来的值, 不存在时返回<code>defVal</code>
+	 */
+	public int remove(int key, int defVal) {
+		if (key == 0) {
+			if (!containsZeroKey) {
+				return defVal;
+			}
+			containsZeroKey = false;
+			return zeroValue;
+		}
+		int slot = slotOf(key);
+		if (slot < 0) {
+			return defVal;
+		}
+		int old = values[slot];
+		shiftConflictingKeys(slot);
+		assigned--;
+		return old;
+	}
+
+	/**
+	 * @see IntSet
+	 */
+	private void shiftConflictingKeys(int gap) {
+		int[] keys = this.keys;
+		int[] values = this.values;
+		int mask = this.mask;
+		int slot = gap;
+		while (true) {
+			slot = (slot + 1) & mask;
+			int key = keys[slot];
+			if (key == 0) {
+				break;
+			}
+			int home = IntSet.mix(key) & mask;
+			if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+				keys[gap] = key;
+				values[gap] = values[slot];
+				gap = slot;
+			}
+		}
+		keys[gap] = 0;
+		values[gap] = 0;
+	}
+
+	public int size() {
+		return assigned + (containsZeroKey ? 1 : 0);
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * 清空, 保留已分配的空间.
+	 */
+	public void clear() {
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, 0);
+		assigned = 0;
+		containsZeroKey = false;
+		zeroValue = 0;
+	}
+
+	/**
+	 * @return 所有键组成的新数组, 顺序不确定
+	 */
+	public int[] keys() {
+		int[] result = new int[size()];
+		int i = 0;
+		if (containsZeroKey) {
+			result[i++] = 0;
+		}
+		for (int key : keys) {
+			if (key != 0) {
+				result[i++] = key;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof IntIntMap)) {
+			return false;
+		}
+		IntIntMap other = (IntIntMap) obj;
+		if (size() != other.size() || containsZeroKey != other.containsZeroKey
+				|| (containsZeroKey && zeroValue != other.zeroValue)) {
+			return false;
+		}
+		for (int i = 0; i < keys.length; i++) {
+			int key = keys[i];
+			if (key != 0) {
+				int slot = other.slotOf(key);
+				if (slot < 0 || other.values[slot] != values[i]) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = containsZeroKey ? zeroValue : 0;
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0) {
+				result += keys[i] ^ values[i];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		int[] keys = keys();
+		Arrays.sort(keys);
+		StringBuilder sb = new StringBuilder(keys.length * 10 + 2);
+		sb.append('{');
+		for (int i = 0; i < keys.length; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(keys[i]).append('=').append(get(keys[i], 0));
+		}
+		return sb.append('}').toString();
+	}
+}
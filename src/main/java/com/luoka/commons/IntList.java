@@ -0,0 +1,223 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.Arrays;
+
+/**
+ * 可增长的int列表, 元素直接存放在int数组中, 不装箱. <BR>
+ * 用于ID列表等大量整数的收集和转换, 代替<code>List&lt;Integer&gt;</code>. 非线程安全.
+ * @since zengqingmeng @ Oct 18, 2026 11:58:20 PM
+ *
+ * @see IntSet
+ * @see IntIntMap
+ */
+public final class IntList {
+
+	private static final int[] EMPTY = new int[0];
+
+	private int[] values;
+
+	private int size;
+
+	public IntList() {
+		this.values = EMPTY;
+	}
+
+	/**
+	 * @param capacity
+	 *            初始容量
+	 */
+	public IntList(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		}
+		this.values = (capacity == 0) ? EMPTY : new int[capacity];
+	}
+
+	/**
+	 * @return 包含给定值(复制)的列表
+	 */
+	public static IntList of(int... values) {
+		AssertUtil.notNull(values, "values is null.");
+		IntList list = new IntList(values.length);
+		list.addAll(values, 0, values.length);
+		return list;
+	}
+
+	private void ensureCapacity(int minCapacity) {
+		if (minCapacity > values.length) {
+			int newCapacity = Math.max(values.length + (values.length >> 1), 8);
+			if (newCapacity < minCapacity || newCapacity < 0) {
+				newCapacity = minCapacity;
+			}
+			values = Arrays.copyOf(values, newCapacity);
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	/**
+	 * 在末尾添加.
+	 */
+	public void add(int value) {
+		if (size == values.length) {
+			ensureCapacity(size + 1);
+		}
+		values[size++] = value;
+	}
+
+	/**
+	 * 在末尾添加<code>values</code>中的所有值.
+	 */
+	public void addAll(int[] values) {
+		AssertUtil.notNull(values, "values is null.");
+		addAll(values, 0, values.length);
+	}
+
+	/**
+	 * 在末尾添加<code>values</code>中[from, to)的值.
+	 */
+	public void addAll(int[] values, int from, int to) {
+		if (from < 0 || to > values.length || from > to) {
+			throw new IndexOutOfBoundsException("from: " + from + ", to: " + to
+					+ ", length: " + values.length);
+		}
+		ensureCapacity(size + (to - from));
+		System.arraycopy(values, from, this.values, size, to - from);
+		size += to - from;
+	}
+
+	/**
+	 * 在末尾添加<code>list</code>中的所有值.
+	 */
+	public void addAll(IntList list) {
+		addAll(list.values, 0, list.size);
+	}
+
+	public int get(int index) {
+		checkIndex(index);
+		return values[index];
+	}
+
+	/**
+	 * @return 原来的值
+	 */
+	public int set(int index, int value) {
+		checkIndex(index);
+		int old = values[index];
+		values[index] = value;
+		return old;
+	}
+
+	/**
+	 * 删除给定位置的值, 其后的值前移.
+	 *
+	 * @return 删除的值
+	 */
+	public int removeAt(int index) {
+		checkIndex(index);
+		int old = values[index];
+		System.arraycopy(values, index + 1, values, index, size - index - 1);
+		size--;
+		return old;
+	}
+
+	/**
+	 * @return 第一次出现的位置, 不存在时返回-1
+	 */
+	public int indexOf(int value) {
+		for (int i = 0; i < size; i++) {
+			if (values[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public boolean contains(int value) {
+		return indexOf(value) >= 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * 清空, 保留已分配的空间.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * 升序排序.
+	 */
+	public void sort() {
+		Arrays.sort(values, 0, size);
+	}
+
+	/**
+	 * @return 包含所有值的新数组
+	 */
+	public int[] toArray() {
+		return (size == 0) ? EMPTY : Arrays.copyOf(values, size);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof IntList)) {
+			return false;
+		}
+		IntList other = (IntList) obj;
+		if (size != other.size) {
+			return false;
+		}
+		for (int i = 0; i < size; i++) {
+			if (values[i] != other.values[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 与相同元素的<code>int[]</code>的{@link Arrays#hashCode(int[])}相同.
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		for (int i = 0; i < size; i++) {
+			result = 31 * result + values[i];
+		}
+		return result;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(size * 6 + 2);
+		sb.append('[');
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(values[i]);
+		}
+		return sb.append(']').toString();
+	}
+}
@@ -0,0 +1,101 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+/**
+ * int的{@link LookupSet}, 不装箱. <BR>
+ * 元素不多于{@link LookupSet#LINEAR_THRESHOLD}个时顺序比较, 否则使用{@link IntSet}的哈希表. 与IntSet不同,
+ * 构造后不能再修改, 因此可被多个线程共享.
+ * @since zengqingmeng @ Oct 19, 2026 1:05:32 AM
+ *
+ * @see LookupSet
+ */
+public final class IntLookupSet {
+
+	/**
+	 * 顺序比较时的元素(不重复); 使用哈希表时为<code>null</code>.
+	 */
+	private final int[] elements;
+
+	/**
+	 * 只读.
+	 */
+	private final IntSet set;
+
+	private IntLookupSet(int[] elements, IntSet set) {
+		this.elements = elements;
+		this.set = set;
+	}
+
+	/**
+	 * @param values
+	 *            元素, 重复的只保留一个
+	 */
+	public static IntLookupSet of(int... values) {
+		AssertUtil.notNull(values, "values is null.");
+		IntSet set = IntSet.of(values);
+		if (set.size() <= LookupSet.LINEAR_THRESHOLD) {
+			return new IntLookupSet(set.toArray(), null);
+		}
+		return new IntLookupSet(null, set);
+	}
+
+	/**
+	 * @return 是否包含<code>value</code>
+	 */
+	public boolean contains(int value) {
+		if (set != null) {
+			return set.contains(value);
+		}
+		for (int element : elements) {
+			if (element == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return <code>values</code>中在本集合中的值, 保持原来的顺序和重复
+	 */
+	public int[] filter(int[] values) {
+		return select(values, true);
+	}
+
+	/**
+	 * @return <code>values</code>中不在本集合中的值, 保持原来的顺序和重复
+	 */
+	public int[] exclude(int[] values) {
+		return select(values, false);
+	}
+
+	private int[] select(int[] values, boolean contained) {
+		AssertUtil.notNull(values, "values is null.");
+		if (set != null) {
+			return IntArrays.retain(values, set, contained);
+		}
+		IntList result = new IntList(values.length);
+		for (int value : values) {
+			if (contains(value) == contained) {
+				result.add(value);
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * @return 元素个数(不重复)
+	 */
+	public int size() {
+		return (set != null) ? set.size() : elements.length;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "IntLookupSet [size=" + size() + "]";
+	}
+}
@@ -0,0 +1,279 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.Arrays;
+
+/**
+ * int的哈希集合, 开放寻址(线性探测), 不装箱. <BR>
+ * 0不放在表中(表中的0表示空位), 而是单独用一个标志记录; 删除时把后面同一探测链上的元素前移, 不留墓碑.
+ * 非线程安全.
+ * @since zengqingmeng @ Oct 18, 2026 11:58:20 PM
+ *
+ * @see IntIntMap
+ */
+public final class IntSet {
+
+	/**
+	 * 最大装载因子.
+	 */
+	static final float LOAD_FACTOR = 0.75f;
+
+	private static final int MIN_CAPACITY = 8;
+
+	static final int MAX_CAPACITY = 1 << 30;
+
+	private int[] keys;
+
+	/**
+	 * 表中元素的个数, 不含0.
+	 */
+	private int assigned;
+
+	private boolean containsZero;
+
+	/**
+	 * 表长减1, 表长总是2的幂.
+	 */
+	private int mask;
+
+	private int resizeAt;
+
+	public IntSet() {
+		this(0);
+	}
+
+	/**
+	 * @param expectedSize
+	 *            预计的元素个数, 达到此数目前不会扩容
+	 */
+	public IntSet(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Illegal expectedSize: " + expectedSize);
+		}
+		allocate(tableSize(expectedSize));
+	}
+
+	/**
+	 * @return 包含给定值的集合
+	 */
+	public static IntSet of(int... values) {
+		AssertUtil.notNull(values, "values is null.");
+		IntSet set = new IntSet(values.length);
+		set.addAll(values);
+		return set;
+	}
+
+	/**
+	 * 容纳<code>expectedSize</code>个元素所需的表长.
+	 */
+	static int tableSize(int expectedSize) {
+		long needed = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+		if (needed > MAX_CAPACITY) {
+			return MAX_CAPACITY;
+		}
+		return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+	}
+
+	/**
+	 * 打散哈希值, 使连续的ID也能均匀分布.
+	 */
+	static int mix(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private void allocate(int capacity) {
+		keys = new int[capacity];
+		mask = capacity - 1;
+		resizeAt = (capacity == MAX_CAPACITY) ? capacity - 1 : (int) (capacity * LOAD_FACTOR);
+	}
+
+	/**
+	 * @return 原来不存在而加入时返回<code>true</code>
+	 */
+	public boolean add(int key) {
+		if (key == 0) {
+			if (containsZero) {
+				return false;
+			}
+			containsZero = true;
+			return true;
+		}
+		int[] keys = this.keys;
+		int slot = mix(key) & mask;
+		for (int existing; (existing = keys[slot]) != 0; slot = (slot + 1) & mask) {
+			if (existing == key) {
+				return false;
+			}
+		}
+		if (assigned == resizeAt) {
+			if (keys.length == MAX_CAPACITY) {
+				throw new IllegalStateException("IntSet is full: " + assigned);
+			}
+			rehash(keys.length << 1);
+			add(key);
+			return true;
+		}
+		keys[slot] = key;
+		assigned++;
+		return true;
+	}
+
+	/**
+	 * 加入<code>values</code>中的所有值.
+	 */
+	public void addAll(int[] values) {
+		for (int value : values) {
+			add(value);
+		}
+	}
+
+	private void rehash(int newCapacity) {
+		int[] old = keys;
+		allocate(newCapacity);
+		int[] keys = this.keys;
+		int mask = this.mask;
+		for (int key : old) {
+			if (key != 0) {
+				int slot = mix(key) & mask;
+				while (keys[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = key;
+			}
+		}
+	}
+
+	public boolean contains(int key) {
+		if (key == 0) {
+			return containsZero;
+		}
+		int[] keys = this.keys;
+		int slot = mix(key) & mask;
+		for (int existing; (existing = keys[slot]) != 0; slot = (slot + 1) & mask) {
+			if (existing == key) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return 存在而删除时返回<code>true</code>
+	 */
+	public boolean remove(int key) {
+		if (key == 0) {
+			boolean existed = containsZero;
+			containsZero = false;
+			return existed;
+		}
+		int[] keys = this.keys;
+		int slot = mix(key) & mask;
+		for (int existing; (existing = keys[slot]) != 0; slot = (slot + 1) & mask) {
+			if (existing == key) {
+				shiftConflictingKeys(slot);
+				assigned--;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 删除<code>gap</code>处的元素, 把后面探测链上的元素前移填补空位.
+	 */
+	private void shiftConflictingKeys(int gap) {
+		int[] keys = this.keys;
+		int mask = this.mask;
+		int slot = gap;
+		while (true) {
+			slot = (slot + 1) & mask;
+			int key = keys[slot];
+			if (key == 0) {
+				break;
+			}
+			int home = mix(key) & mask;
+			// home不在(gap, slot]内时, 该元素可以移到gap
+			if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+				keys[gap] = key;
+				gap = slot;
+			}
+		}
+		keys[gap] = 0;
+	}
+
+	public int size() {
+		return assigned + (containsZero ? 1 : 0);
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * 清空, 保留已分配的空间.
+	 */
+	public void clear() {
+		Arrays.fill(keys, 0);
+		assigned = 0;
+		containsZero = false;
+	}
+
+	/**
+	 * @return 包含所有值的新数组, 顺序不确定
+	 */
+	public int[] toArray() {
+		int[] result = new int[size()];
+		int i = 0;
+		if (containsZero) {
+			result[i++] = 0;
+		}
+		for (int key : keys) {
+			if (key != 0) {
+				result[i++] = key;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof IntSet)) {
+			return false;
+		}
+		IntSet other = (IntSet) obj;
+		if (size() != other.size() || containsZero != other.containsZero) {
+			return false;
+		}
+		for (int key : keys) {
+			if (key != 0 && !other.contains(key)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 0;
+		for (int key : keys) {
+			result += key;
+		}
+		return result;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		int[] values = toArray();
+		Arrays.sort(values);
+		return Arrays.toString(values);
+	}
+}
@@ -0,0 +1,217 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+/**
+ * IPv4/IPv6地址的解析, 逐字符扫描, 不使用正则表达式, 也不创建任何对象. <BR>
+ * IPv4地址解析为32位无符号整数(放在long中), IPv6地址解析为高低两个64位整数.
+ * IPv4只接受点分十进制的4段形式, 各段不带前导0; IPv6接受RFC 4291的文本形式,
+ * 包括"::"缩写和末尾内嵌IPv4地址, 但不接受方括号及"%"区域标识.
+ * @since zengqingmeng @ Oct 18, 2026 8:05:47 PM
+ *
+ * @see CidrSet
+ */
+public final class IpUtil {
+
+	/**
+	 * 解析失败时的返回值.
+	 */
+	public static final long INVALID = -1;
+
+	private IpUtil() {
+	}
+
+	/**
+	 * 解析IPv4地址.
+	 *
+	 * @return 0至0xFFFFFFFF之间的地址值; 不是合法的IPv4地址(含<code>null</code>)时返回{@link #INVALID}
+	 */
+	public static long parseIPv4(CharSequence input) {
+		return (input == null) ? INVALID : parseIPv4(input, 0, input.length());
+	}
+
+	/**
+	 * 解析字符串中<code>[from, to)</code>部分的IPv4地址.
+	 *
+	 * @see #parseIPv4(CharSequence)
+	 */
+	public static long parseIPv4(CharSequence input, int from, int to) {
+		if (to - from < 7 || to - from > 15) {
+			return INVALID;
+		}
+		long address = 0;
+		int pos = from;
+		for (int part = 0; part < 4; part++) {
+			if (part > 0) {
+				if (pos >= to || input.charAt(pos) != '.') {
+					return INVALID;
+				}
+				pos++;
+			}
+			int start = pos;
+			int value = 0;
+			while (pos < to && pos - start < 4) {
+				char ch = input.charAt(pos);
+				if (ch < '0' || ch > '9') {
+					break;
+				}
+				value = value * 10 + (ch - '0');
+				pos++;
+			}
+			int length = pos - start;
+			if (length == 0 || length > 3 || value > 255
+					|| (length > 1 && input.charAt(start) == '0')) {
+				return INVALID;
+			}
+			address = (address << 8) | value;
+		}
+		return (pos == to) ? address : INVALID;
+	}
+
+	/**
+	 * 解析IPv6地址, 结果写入调用方提供(可复用)的数组.
+	 *
+	 * @param input
+	 *            地址字符串
+	 * @param result
+	 *            长度至少为2的数组; 成功时<code>result[0]</code>为高64位, <code>result[1]</code>为低64位
+	 * @return 是否为合法的IPv6地址; 不合法时数组内容不变
+	 */
+	public static boolean parseIPv6(CharSequence input, long[] result) {
+		return input != null && parseIPv6(input, 0, input.length(), result);
+	}
+
+	/**
+	 * 解析字符串中<code>[from, to)</code>部分的IPv6地址.
+	 *
+	 * @see #parseIPv6(CharSequence, long[])
+	 */
+	public static boolean parseIPv6(CharSequence input, int from, int to,
+			long[] result) {
+		if (to - from < 2 || to - from > 45) {
+			return false;
+		}
+		// "::"之前和之后的部分分别累加为128位整数
+		long headHigh = 0;
+		long headLow = 0;
+		long tailHigh = 0;
+		long tailLow = 0;
+		int headGroups = 0;
+		int tailGroups = 0;
+		boolean compressed = false;
+		int pos = from;
+		if (input.charAt(pos) == ':') {
+			if (input.charAt(pos + 1) != ':') {
+				return false;
+			}
+			compressed = true;
+			pos += 2;
+		}
+		while (pos < to) {
+			int start = pos;
+			int value = 0;
+			while (pos < to && pos - start < 5) {
+				int digit = Character.digit(input.charAt(pos), 16);
+				if (digit < 0 || input.charAt(pos) > 'f') {
+					break;
+				}
+				value = (value << 4) | digit;
+				pos++;
+			}
+			int groups;
+			if (pos < to && input.charAt(pos) == '.') {
+				// 末尾内嵌的IPv4地址, 占两组
+				long v4 = parseIPv4(input, start, to);
+				if (v4 == INVALID) {
+					return false;
+				}
+				value = (int) v4;
+				groups = 2;
+				pos = to;
+			} else {
+				if (pos == start || pos - start > 4) {
+					return false;
+				}
+				groups = 1;
+			}
+			int bits = groups * 16;
+			long mask = (groups == 2) ? 0xFFFFFFFFL : 0xFFFFL;
+			if (compressed) {
+				tailHigh = (tailHigh << bits) | (tailLow >>> (64 - bits));
+				tailLow = (tailLow << bits) | (value & mask);
+				tailGroups += groups;
+			} else {
+				headHigh = (headHigh << bits) | (headLow >>> (64 - bits));
+				headLow = (headLow << bits) | (value & mask);
+				headGroups += groups;
+			}
+			if (headGroups + tailGroups > 8) {
+				return false;
+			}
+			if (pos == to) {
+				break;
+			}
+			if (input.charAt(pos) != ':') {
+				return false;
+			}
+			pos++;
+			if (pos < to && input.charAt(pos) == ':') {
+				if (compressed) {
+					return false;
+				}
+				compressed = true;
+				pos++;
+			} else if (pos == to) {
+				// 以单个':'结尾
+				return false;
+			}
+		}
+		final int total = headGroups + tailGroups;
+		if (compressed ? total > 7 : total != 8) {
+			return false;
+		}
+		// 把"::"之前的部分左移到高位, 与之后的部分合并
+		int shift = (8 - headGroups) * 16;
+		long high;
+		long low;
+		if (shift >= 128) {
+			high = 0;
+			low = 0;
+		} else if (shift >= 64) {
+			high = headLow << (shift - 64);
+			low = 0;
+		} else if (shift == 0) {
+			high = headHigh;
+			low = headLow;
+		} else {
+			high = (headHigh << shift) | (headLow >>> (64 - shift));
+			low = headLow << shift;
+		}
+		result[0] = high | tailHigh;
+		result[1] = low | tailLow;
+		return true;
+	}
+
+	/**
+	 * @return 是否为合法的IPv6地址
+	 */
+	public static boolean isIPv6(CharSequence input) {
+		return parseIPv6(input, new long[2]);
+	}
+
+	/**
+	 * 把IPv4地址值转为点分十进制形式.
+	 *
+	 * @param address
+	 *            地址值, 只取低32位
+	 */
+	public static String formatIPv4(long address) {
+		StringBuilder sb = new StringBuilder(15);
+		sb.append((address >>> 24) & 0xFF).append('.');
+		sb.append((address >>> 16) & 0xFF).append('.');
+		sb.append((address >>> 8) & 0xFF).append('.');
+		sb.append(address & 0xFF);
+		return sb.toString();
+	}
+}
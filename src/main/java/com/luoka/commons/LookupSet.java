@@ -0,0 +1,183 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 由数组或集合构造后不再改变的查找集合, 用于代替对同一个数组反复调用{@link ArrayUtil#contain(Object[], Object)}. <BR>
+ * 元素不多于{@link #LINEAR_THRESHOLD}个时直接顺序比较; 否则放入开放寻址(线性探测)的哈希表,
+ * 每个位置同时保存元素的哈希值, 查找时先比较哈希值, 很少调用<code>equals</code>. 可以包含<code>null</code>.<br>
+ * 不可变, 可被多个线程共享(前提是元素的<code>hashCode</code>/<code>equals</code>不变).
+ * @since zengqingmeng @ Oct 19, 2026 1:05:32 AM
+ *
+ * @see StringLookupSet
+ * @see IntLookupSet
+ */
+public final class LookupSet<T> {
+
+	/**
+	 * 不多于此个数时顺序比较: 几次<code>equals</code>比计算哈希值再探测更快.
+	 */
+	static final int LINEAR_THRESHOLD = 8;
+
+	/**
+	 * 顺序比较时的元素; 使用哈希表时为<code>null</code>.
+	 */
+	private final Object[] elements;
+
+	private final Object[] table;
+
+	private final int[] hashes;
+
+	private final int mask;
+
+	private final boolean containsNull;
+
+	private final int size;
+
+	private LookupSet(Object[] distinct, int size, boolean containsNull) {
+		this.size = size + (containsNull ? 1 : 0);
+		this.containsNull = containsNull;
+		if (size <= LINEAR_THRESHOLD) {
+			this.elements = Arrays.copyOf(distinct, size);
+			this.table = null;
+			this.hashes = null;
+			this.mask = 0;
+			return;
+		}
+		// 装载因子不超过0.5, 查找不存在的元素时探测链也很短
+		int capacity = Integer.highestOneBit(size * 2 - 1) << 1;
+		this.elements = null;
+		this.table = new Object[capacity];
+		this.hashes = new int[capacity];
+		this.mask = capacity - 1;
+		for (int i = 0; i < size; i++) {
+			Object element = distinct[i];
+			int hash = hash(element);
+			int slot = hash & mask;
+			while (table[slot] != null) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = element;
+			hashes[slot] = hash;
+		}
+	}
+
+	/**
+	 * @param elements
+	 *            元素, 重复的只保留一个
+	 */
+	@SafeVarargs
+	public static <T> LookupSet<T> of(T... elements) {
+		if (elements == null) {
+			throw new IllegalArgumentException("elements is null.");
+		}
+		// 逐个复制, 不把可变参数数组本身传给其他方法
+		Object[] copy = new Object[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			copy[i] = elements[i];
+		}
+		return distinct(copy);
+	}
+
+	/**
+	 * @see #of(Object...)
+	 */
+	public static <T> LookupSet<T> of(Collection<? extends T> elements) {
+		AssertUtil.notNull(elements, "elements is null.");
+		return distinct(elements.toArray());
+	}
+
+	/**
+	 * 在<code>elements</code>中原地去重并分离null.
+	 */
+	private static <T> LookupSet<T> distinct(Object[] elements) {
+		HashSet<Object> seen = new HashSet<Object>(elements.length * 4 / 3 + 1);
+		int size = 0;
+		boolean containsNull = false;
+		for (Object element : elements) {
+			if (element == null) {
+				containsNull = true;
+			} else if (seen.add(element)) {
+				elements[size++] = element;
+			}
+		}
+		return new LookupSet<T>(elements, size, containsNull);
+	}
+
+	private static int hash(Object element) {
+		int h = element.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * @return 是否包含<code>element</code>
+	 */
+	public boolean contains(Object element) {
+		if (element == null) {
+			return containsNull;
+		}
+		if (table == null) {
+			for (Object candidate : elements) {
+				if (candidate.equals(element)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		int hash = hash(element);
+		int slot = hash & mask;
+		for (Object candidate; (candidate = table[slot]) != null; slot = (slot + 1) & mask) {
+			if (hashes[slot] == hash && (candidate == element || candidate.equals(element))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return 在本集合中的元素, 保持<code>items</code>中的顺序和重复
+	 */
+	public <E> List<E> filter(Collection<E> items) {
+		return select(items, true);
+	}
+
+	/**
+	 * @return 不在本集合中的元素, 保持<code>items</code>中的顺序和重复
+	 */
+	public <E> List<E> exclude(Collection<E> items) {
+		return select(items, false);
+	}
+
+	private <E> List<E> select(Collection<E> items, boolean contained) {
+		AssertUtil.notNull(items, "items is null.");
+		List<E> result = new ArrayList<E>(contained ? Math.min(items.size(), size) : items.size());
+		for (E item : items) {
+			if (contains(item) == contained) {
+				result.add(item);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return 元素个数(不重复)
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "LookupSet [size=" + size + "]";
+	}
+}
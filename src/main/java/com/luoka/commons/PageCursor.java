@@ -0,0 +1,217 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 游标分页(keyset pagination)的游标: 页号加上一页最后一条记录的排序键. <BR>
+ * 编码为紧凑的URL安全字符串(Base64, 无填充), 整数键按zigzag变长编码, 字符串键按UTF-8编码,
+ * 可以直接放在查询参数中. 对调用方而言游标是不透明的, 只应由{@link #encode(int, Object...)}生成.
+ * 对象不可变.
+ * @since zengqingmeng @ Oct 18, 2026 10:21:37 PM
+ *
+ * @see CursorPage
+ */
+public final class PageCursor {
+
+	/**
+	 * 第一页的游标(没有排序键).
+	 */
+	public static final PageCursor FIRST = new PageCursor(0, new Object[0]);
+
+	private static final int TYPE_LONG = 0;
+
+	private static final int TYPE_STRING = 1;
+
+	private static final int TYPE_NULL = 2;
+
+	private final int pageIndex;
+
+	private final Object[] key;
+
+	private PageCursor(int pageIndex, Object[] key) {
+		this.pageIndex = pageIndex;
+		this.key = key;
+	}
+
+	/**
+	 * 编码游标.
+	 *
+	 * @param pageIndex
+	 *            游标指向的页号(从0开始)
+	 * @param key
+	 *            排序键的各部分, 只能是整数(<code>Long</code>、<code>Integer</code>、<code>Short</code>、
+	 *            <code>Byte</code>)、<code>String</code>或<code>null</code>
+	 * @throws IllegalArgumentException
+	 *             页号为负数或键的类型不支持
+	 */
+	public static String encode(int pageIndex, Object... key) {
+		if (pageIndex < 0) {
+			throw new IllegalArgumentException("pageIndex is negative: " + pageIndex);
+		}
+		AssertUtil.notNull(key, "key is null.");
+		ByteArrayOutputStream out = new ByteArrayOutputStream(16);
+		writeVarint(out, pageIndex);
+		for (Object part : key) {
+			if (part == null) {
+				out.write(TYPE_NULL);
+			} else if (part instanceof Long || part instanceof Integer
+					|| part instanceof Short || part instanceof Byte) {
+				out.write(TYPE_LONG);
+				long value = ((Number) part).longValue();
+				writeVarint(out, (value << 1) ^ (value >> 63));
+			} else if (part instanceof String) {
+				out.write(TYPE_STRING);
+				byte[] bytes = ((String) part).getBytes(StandardCharsets.UTF_8);
+				writeVarint(out, bytes.length);
+				out.write(bytes, 0, bytes.length);
+			} else {
+				throw new IllegalArgumentException("Unsupported key type: "
+						+ part.getClass().getName());
+			}
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+	}
+
+	/**
+	 * 解码游标.
+	 *
+	 * @param cursor
+	 *            {@link #encode(int, Object...)}的结果; <code>null</code>或空串表示第一页
+	 * @throws IllegalArgumentException
+	 *             游标不合法
+	 */
+	public static PageCursor decode(String cursor) {
+		if (cursor == null || cursor.isEmpty()) {
+			return FIRST;
+		}
+		byte[] bytes;
+		try {
+			bytes = Base64.getUrlDecoder().decode(cursor);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Illegal cursor: " + cursor, e);
+		}
+		int[] pos = new int[1];
+		long pageIndex = readVarint(bytes, pos, cursor);
+		if (pageIndex > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Illegal cursor: " + cursor);
+		}
+		Object[] key = new Object[4];
+		int count = 0;
+		while (pos[0] < bytes.length) {
+			int type = bytes[pos[0]++];
+			Object part;
+			if (type == TYPE_NULL) {
+				part = null;
+			} else if (type == TYPE_LONG) {
+				long zigzag = readVarint(bytes, pos, cursor);
+				part = Long.valueOf((zigzag >>> 1) ^ -(zigzag & 1));
+			} else if (type == TYPE_STRING) {
+				long length = readVarint(bytes, pos, cursor);
+				if (length > bytes.length - pos[0]) {
+					throw new IllegalArgumentException("Illegal cursor: " + cursor);
+				}
+				part = new String(bytes, pos[0], (int) length, StandardCharsets.UTF_8);
+				pos[0] += (int) length;
+			} else {
+				throw new IllegalArgumentException("Illegal cursor: " + cursor);
+			}
+			if (count == key.length) {
+				key = Arrays.copyOf(key, count << 1);
+			}
+			key[count++] = part;
+		}
+		return new PageCursor((int) pageIndex, Arrays.copyOf(key, count));
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarint(byte[] bytes, int[] pos, String cursor) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			if (pos[0] >= bytes.length) {
+				break;
+			}
+			byte b = bytes[pos[0]++];
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Illegal cursor: " + cursor);
+	}
+
+	/**
+	 * @return 游标指向的页号
+	 */
+	public int getPageIndex() {
+		return pageIndex;
+	}
+
+	/**
+	 * @return 排序键的部分数, 第一页为0
+	 */
+	public int size() {
+		return key.length;
+	}
+
+	/**
+	 * @return 第一页的游标没有排序键
+	 */
+	public boolean isFirst() {
+		return key.length == 0;
+	}
+
+	/**
+	 * @return 排序键的第<code>index</code>部分: <code>Long</code>、<code>String</code>或<code>null</code>
+	 */
+	public Object get(int index) {
+		return key[index];
+	}
+
+	/**
+	 * @return 排序键的第<code>index</code>部分
+	 * @throws ClassCastException
+	 *             该部分不是整数
+	 * @throws NullPointerException
+	 *             该部分为<code>null</code>
+	 */
+	public long getLong(int index) {
+		return ((Long) key[index]).longValue();
+	}
+
+	/**
+	 * @return 排序键的第<code>index</code>部分
+	 * @throws ClassCastException
+	 *             该部分不是字符串
+	 */
+	public String getString(int index) {
+		return (String) key[index];
+	}
+
+	/**
+	 * @return 重新编码的游标
+	 */
+	public String encode() {
+		return encode(pageIndex, key);
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "PageCursor [pageIndex=" + pageIndex + ", key=" + Arrays.toString(key) + "]";
+	}
+}
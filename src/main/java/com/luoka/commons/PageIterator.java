@@ -0,0 +1,269 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 按页遍历整个结果集. <BR>
+ * 由一个按页号取数据的{@link PageFetcher}依次取出第0页、第1页……直到最后一页({@link PagedList#isLastPage()}
+ * 或取到空页). 指定了{@link Executor}时, 在返回一页的同时就在该线程池中预取下一页, 调用方处理当前页时下一页已在路上;
+ * 任何时候最多持有两页数据, 因此可以用{@link #stream()}以有限的内存遍历上百万条记录.<br>
+ * 预取中抛出的异常在取这一页时重新抛出. 非线程安全; 使用完(特别是没有遍历到最后时)应调用{@link #close()}
+ * 取消未完成的预取, 通过{@link #stream()}遍历时关闭流即可.
+ * @since zengqingmeng @ Oct 18, 2026 10:43:05 PM
+ *
+ */
+public final class PageIterator<T> implements Iterator<PagedList<T>>, Closeable {
+
+	/**
+	 * 按页号取一页数据.
+	 */
+	public interface PageFetcher<T> {
+		/**
+		 * @param pageIndex
+		 *            页号, 从0开始
+		 * @param pageSize
+		 *            每页条数
+		 */
+		PagedList<T> fetch(int pageIndex, int pageSize);
+	}
+
+	private final PageFetcher<T> fetcher;
+
+	private final int pageSize;
+
+	/**
+	 * 为<code>null</code>时不预取.
+	 */
+	private final Executor executor;
+
+	private int nextPageIndex;
+
+	private boolean exhausted;
+
+	/**
+	 * 已预取(或正在预取)的下一页.
+	 */
+	private CompletableFuture<PagedList<T>> prefetched;
+
+	/**
+	 * 不预取, 在调用{@link #next()}时同步取数据.
+	 *
+	 * @see #PageIterator(PageFetcher, int, Executor)
+	 */
+	public PageIterator(PageFetcher<T> fetcher, int pageSize) {
+		this(fetcher, pageSize, null);
+	}
+
+	/**
+	 *
+	 * @param fetcher
+	 *            按页号取数据
+	 * @param pageSize
+	 *            每页条数
+	 * @param executor
+	 *            预取下一页使用的线程池, <code>null</code>表示不预取
+	 */
+	public PageIterator(PageFetcher<T> fetcher, int pageSize, Executor executor) {
+		AssertUtil.notNull(fetcher, "fetcher is null.");
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+		}
+		this.fetcher = fetcher;
+		this.pageSize = pageSize;
+		this.executor = executor;
+	}
+
+	/**
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+		return !exhausted;
+	}
+
+	/**
+	 * 取下一页, 并开始预取再下一页.
+	 *
+	 * @throws NoSuchElementException
+	 *             已经取过最后一页
+	 */
+	@Override
+	public PagedList<T> next() {
+		if (exhausted) {
+			throw new NoSuchElementException();
+		}
+		PagedList<T> page;
+		if (prefetched != null) {
+			CompletableFuture<PagedList<T>> future = prefetched;
+			prefetched = null;
+			page = join(future);
+		} else {
+			page = fetcher.fetch(nextPageIndex, pageSize);
+		}
+		nextPageIndex++;
+		if (page == null || page.size() == 0 || page.isLastPage()) {
+			exhausted = true;
+		} else if (executor != null) {
+			final int pageIndex = nextPageIndex;
+			prefetched = CompletableFuture.supplyAsync(new Supplier<PagedList<T>>() {
+				@Override
+				public PagedList<T> get() {
+					return fetcher.fetch(pageIndex, pageSize);
+				}
+			}, executor);
+		}
+		return (page == null) ? new PagedList<T>(nextPageIndex - 1, pageSize, 0,
+				Collections.<T> emptyList(), 10) : page;
+	}
+
+	private static <T> PagedList<T> join(CompletableFuture<PagedList<T>> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * @return 下一个要取的页号
+	 */
+	public int getNextPageIndex() {
+		return nextPageIndex;
+	}
+
+	/**
+	 * 停止遍历并取消未完成的预取.
+	 */
+	@Override
+	public void close() {
+		exhausted = true;
+		if (prefetched != null) {
+			prefetched.cancel(false);
+			prefetched = null;
+		}
+	}
+
+	/**
+	 * @return 按顺序遍历所有页中记录的迭代器
+	 */
+	public Iterator<T> items() {
+		return Spliterators.iterator(new ItemSpliterator());
+	}
+
+	/**
+	 * 返回遍历所有页中记录的Spliterator. 不支持拆分({@link Spliterator#trySplit()}返回<code>null</code>):
+	 * 拆分会提前取出后面的页, 破坏最多持有两页的约定. 因此即使用于并行流, 记录也按顺序在一个线程中处理;
+	 * 需要并行处理时应在每一页内并行.
+	 */
+	public Spliterator<T> spliterator() {
+		return new ItemSpliterator();
+	}
+
+	/**
+	 * @return 所有页中记录组成的顺序流; 关闭流时调用{@link #close()}
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false).onClose(new Runnable() {
+			@Override
+			public void run() {
+				close();
+			}
+		});
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "PageIterator [pageSize=" + pageSize + ", nextPageIndex="
+				+ nextPageIndex + ", exhausted=" + exhausted + "]";
+	}
+
+	private final class ItemSpliterator implements Spliterator<T> {
+		private List<T> items;
+		private int position;
+
+		/**
+		 * @return 当前页是否还有记录; 没有时取下一页, 全部取完时返回<code>false</code>
+		 */
+		private boolean ensureItems() {
+			while (items == null || position >= items.size()) {
+				items = null;
+				if (!PageIterator.this.hasNext()) {
+					return false;
+				}
+				PagedList<T> page = PageIterator.this.next();
+				if (page.getPageItems() != null) {
+					items = page.getPageItems();
+					position = 0;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (!ensureItems()) {
+				return false;
+			}
+			action.accept(items.get(position++));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			while (ensureItems()) {
+				List<T> current = items;
+				int size = current.size();
+				while (position < size) {
+					action.accept(current.get(position++));
+				}
+			}
+		}
+
+		/**
+		 * 不拆分, 见{@link PageIterator#spliterator()}.
+		 */
+		@Override
+		public Spliterator<T> trySplit() {
+			return null;
+		}
+
+		/**
+		 * 总条数事先未知.
+		 */
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED;
+		}
+	}
+}
@@ -3,18 +3,33 @@
  */
 package com.luoka.commons;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
 import java.util.List;
 
+import com.luoka.commons.PagedListCodec.ElementCodec;
+
 /**
- * 翻页封装类
+ * 翻页封装类. <BR>
+ * Java序列化使用默认格式, 与以前的数据兼容; 需要紧凑格式时使用{@link PagedListCodec}或{@link CompactPagedList}.
  * @since luoka @ 2014年4月10日 下午4:05:29
  *
  */
 public class PagedList<T> implements Serializable{
 
 	private static final long serialVersionUID = 4025993914083105073L;
-	
+
+	/**
+	 * 紧凑格式的版本.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int FLAG_TOTAL_ESTIMATED = 1;
+
 	private List<T> pageItems;
 
 	/**
@@ -67,6 +82,18 @@ public class PagedList<T> implements Serializable{
 	 */
 	private int endPage;
 
+	/**
+	 * 总条数是否为估计值; 新增的字段, 读取以前序列化的数据时为false
+	 */
+	private boolean totalEstimated;
+
+	/**
+	 * 供{@link PagedListCodec}读取时使用: 字段由{@link #readExternal(DataInput, ElementCodec)}填充.
+	 * 覆盖了读写方法的子类也应提供这样的构造方法, 并通过{@link PagedListCodec#PagedListCodec(ElementCodec, java.util.function.Supplier)}创建.
+	 */
+	protected PagedList() {
+	}
+
 	/**
 	 * 
 	 * @param pageItems
@@ -86,6 +113,36 @@ public class PagedList<T> implements Serializable{
 		this(pageIndex, pageSize, totalItemCount, pageItems, 10);
 	}
 
+	/**
+	 * 总条数可能是估计值(如来自{@link CountCache}): 本页有记录但不满一页时总条数可以确定, 按实际值修正;
+	 * 本页为空(已超出末尾)时, 估计值最多为前面各页的条数之和, 本页成为最后一页;
+	 * 本页满一页而估计值不大于已经看到的记录数时, 修正为已看到的记录数加1, 以保留下一页.
+	 * 
+	 * @param totalEstimated
+	 *            总条数是否为估计值
+	 * @see #isTotalEstimated()
+	 */
+	public PagedList(List<T> pageItems, int pageIndex, int pageSize,
+			int totalItemCount, boolean totalEstimated) {
+		this(pageIndex, pageSize, totalItemCount, pageItems, 10);
+		if (totalEstimated) {
+			long seen = (long) this.pageIndex * this.pageSize + thisPageTotal;
+			if (thisPageTotal < this.pageSize && (thisPageTotal > 0 || this.pageIndex == 0)) {
+				this.totalItemCount = (int) Math.min(seen, Integer.MAX_VALUE);
+			} else if (thisPageTotal == 0) {
+				// 前面的页不一定都是满的, 总条数仍是估计值
+				this.totalItemCount = (int) Math.min(this.totalItemCount, seen);
+				this.totalEstimated = true;
+			} else if (thisPageTotal == this.pageSize && this.totalItemCount <= seen) {
+				this.totalItemCount = (int) Math.min(seen + 1, Integer.MAX_VALUE);
+				this.totalEstimated = true;
+			} else {
+				this.totalEstimated = true;
+			}
+			computePageIndex(step);
+		}
+	}
+
 	/**
 	 * 
 	 * 
@@ -169,6 +226,15 @@ public class PagedList<T> implements Serializable{
 		return totalItemCount;
 	}
 
+	/**
+	 * @return 总条数是否为估计值; 是估计值时getPageTotal、getEndPage等也是估计的.
+	 *         由{@link #PagedList(List, int, int, int, boolean)}构造时, 本页不满一页(包括空页)则isLastPage为true,
+	 *         本页满一页则为false, 即使下一页实际上是空的
+	 */
+	public boolean isTotalEstimated() {
+		return totalEstimated;
+	}
+
 	/**
 	 * @return total count of pages
 	 */
@@ -290,7 +356,7 @@ public class PagedList<T> implements Serializable{
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
 		builder.append("PagedList [pageIndex=").append(pageIndex);
-		builder.append(", total=").append(totalItemCount);
+		builder.append(", total=").append(totalEstimated ? "~" : "").append(totalItemCount);
 		builder.append(", thisPageTotal=").append(thisPageTotal);
 		if (pageItems != null) {
 			builder.append("; pageItems=").append(pageItems);
@@ -322,6 +388,76 @@ public class PagedList<T> implements Serializable{
 	protected void setPageItems(List<T> pageItems) {
 		this.pageItems = pageItems;
 	}
-	
+
+	/**
+	 * 以紧凑格式写出: 版本、标志位、页号、每页条数、总条数、步长、本页条数(均为变长整数), 然后是记录个数和各条记录.
+	 * 子类可以覆盖本方法和{@link #readExternal(DataInput, ElementCodec)}以写出额外的字段, 但应先调用父类的实现;
+	 * 读取时须由{@link PagedListCodec#PagedListCodec(ElementCodec, java.util.function.Supplier)}的factory创建同一个子类.
+	 * 
+	 * @param out
+	 *            输出
+	 * @param elementCodec
+	 *            记录的写出方式
+	 */
+	protected void writeExternal(DataOutput out,
+			ElementCodec<? super T> elementCodec) throws IOException {
+		PagedListCodec.writeVarint(out, FORMAT_VERSION);
+		PagedListCodec.writeVarint(out, totalEstimated ? FLAG_TOTAL_ESTIMATED : 0);
+		PagedListCodec.writeVarint(out, pageIndex);
+		PagedListCodec.writeVarint(out, pageSize);
+		PagedListCodec.writeVarint(out, totalItemCount);
+		PagedListCodec.writeVarint(out, step);
+		PagedListCodec.writeVarint(out, thisPageTotal);
+		if (pageItems == null) {
+			PagedListCodec.writeVarint(out, -1);
+			return;
+		}
+		PagedListCodec.writeVarint(out, pageItems.size());
+		for (T item : pageItems) {
+			elementCodec.write(out, item);
+		}
+	}
+
+	/**
+	 * 读取{@link #writeExternal(DataOutput, ElementCodec)}写出的数据, 并重新计算派生字段.
+	 * 
+	 * @param in
+	 *            输入
+	 * @param elementCodec
+	 *            记录的读取方式
+	 * @throws StreamCorruptedException
+	 *             数据不是本格式
+	 */
+	protected void readExternal(DataInput in,
+			ElementCodec<? extends T> elementCodec) throws IOException {
+		int version = PagedListCodec.readVarint(in);
+		if (version != FORMAT_VERSION) {
+			throw new StreamCorruptedException("Unsupported format version of PagedList: " + version);
+		}
+		int flags = PagedListCodec.readVarint(in);
+		totalEstimated = (flags & FLAG_TOTAL_ESTIMATED) != 0;
+		pageIndex = PagedListCodec.readVarint(in);
+		pageSize = PagedListCodec.readVarint(in);
+		totalItemCount = PagedListCodec.readVarint(in);
+		step = PagedListCodec.readVarint(in);
+		thisPageTotal = PagedListCodec.readVarint(in);
+		int size = PagedListCodec.readVarint(in);
+		if (size < -1) {
+			throw new StreamCorruptedException("Illegal size of PagedList: " + size);
+		}
+		if (size == -1) {
+			pageItems = null;
+		} else {
+			// 不信任size来预分配过大的数组
+			List<T> items = new ArrayList<T>(Math.min(size, 1024));
+			for (int i = 0; i < size; i++) {
+				items.add(elementCodec.read(in));
+			}
+			pageItems = items;
+		}
+		if (step > 0 && pageSize > 0) {
+			computePageIndex(step);
+		}
+	}
 
 }
@@ -0,0 +1,257 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * {@link PagedList}的紧凑二进制格式. <BR>
+ * 只写出页号、每页条数、总条数等原始字段(按zigzag变长整数编码, 常见的值只占1至3个字节), 上一页、总页数等派生字段在读取时重新计算;
+ * 每条记录由可替换的{@link ElementCodec}读写. {@link CompactPagedList}以同样的格式进行Java序列化, 记录则按Java序列化写出.<br>
+ * 实例不可变, 可被多个线程共享(前提是所用的ElementCodec也是线程安全的).
+ * @since zengqingmeng @ Oct 18, 2026 11:02:48 PM
+ *
+ * @see PagedList#writeExternal(DataOutput, ElementCodec)
+ */
+public final class PagedListCodec<T> {
+
+	/**
+	 * 单条记录的读写.
+	 */
+	public interface ElementCodec<T> {
+		void write(DataOutput out, T element) throws IOException;
+
+		T read(DataInput in) throws IOException;
+	}
+
+	/**
+	 * 字符串, 可以为<code>null</code>; 按长度加UTF-8字节写出, 没有{@link DataOutput#writeUTF(String)}的64K限制.
+	 */
+	public static final ElementCodec<String> STRING = new ElementCodec<String>() {
+		@Override
+		public void write(DataOutput out, String element) throws IOException {
+			if (element == null) {
+				writeVarint(out, 0);
+				return;
+			}
+			byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+			writeVarint(out, bytes.length + 1);
+			out.write(bytes);
+		}
+
+		@Override
+		public String read(DataInput in) throws IOException {
+			int length = readVarint(in) - 1;
+			if (length < 0) {
+				return null;
+			}
+			byte[] bytes = new byte[length];
+			in.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	};
+
+	/**
+	 * 不为<code>null</code>的长整数, 按zigzag变长整数写出.
+	 */
+	public static final ElementCodec<Long> LONG = new ElementCodec<Long>() {
+		@Override
+		public void write(DataOutput out, Long element) throws IOException {
+			writeVarLong(out, element.longValue());
+		}
+
+		@Override
+		public Long read(DataInput in) throws IOException {
+			return Long.valueOf(readVarLong(in));
+		}
+	};
+
+	/**
+	 * 不为<code>null</code>的整数, 按zigzag变长整数写出.
+	 */
+	public static final ElementCodec<Integer> INTEGER = new ElementCodec<Integer>() {
+		@Override
+		public void write(DataOutput out, Integer element) throws IOException {
+			writeVarint(out, element.intValue());
+		}
+
+		@Override
+		public Integer read(DataInput in) throws IOException {
+			return Integer.valueOf(readVarint(in));
+		}
+	};
+
+	/**
+	 * 按Java序列化读写, 只能用于{@link ObjectOutput}/{@link ObjectInput}.
+	 */
+	private static final ElementCodec<Object> OBJECT = new ElementCodec<Object>() {
+		@Override
+		public void write(DataOutput out, Object element) throws IOException {
+			((ObjectOutput) out).writeObject(element);
+		}
+
+		@Override
+		public Object read(DataInput in) throws IOException {
+			try {
+				return ((ObjectInput) in).readObject();
+			} catch (ClassNotFoundException e) {
+				throw new IOException(e);
+			}
+		}
+	};
+
+	private final ElementCodec<T> elementCodec;
+
+	/**
+	 * 读取时创建PagedList(或其子类)的空实例.
+	 */
+	private final Supplier<? extends PagedList<T>> factory;
+
+	/**
+	 * 读取时创建{@link PagedList}本身; 写出的是覆盖了读写方法的子类时, 应使用{@link #PagedListCodec(ElementCodec, Supplier)}.
+	 *
+	 * @param elementCodec
+	 *            记录的读写方式
+	 */
+	public PagedListCodec(ElementCodec<T> elementCodec) {
+		this(elementCodec, new Supplier<PagedList<T>>() {
+			@Override
+			public PagedList<T> get() {
+				return new PagedList<T>();
+			}
+		});
+	}
+
+	/**
+	 *
+	 * @param elementCodec
+	 *            记录的读写方式
+	 * @param factory
+	 *            读取时创建空实例, 通常是子类的无参构造方法({@link PagedList#PagedList()}); 每次须返回新的实例
+	 */
+	public PagedListCodec(ElementCodec<T> elementCodec, Supplier<? extends PagedList<T>> factory) {
+		AssertUtil.notNull(elementCodec, "elementCodec is null.");
+		AssertUtil.notNull(factory, "factory is null.");
+		this.elementCodec = elementCodec;
+		this.factory = factory;
+	}
+
+	/**
+	 * 写出到<code>out</code>.
+	 */
+	public void write(PagedList<T> pagedList, DataOutput out) throws IOException {
+		AssertUtil.notNull(pagedList, "pagedList is null.");
+		pagedList.writeExternal(out, elementCodec);
+	}
+
+	/**
+	 * 从<code>in</code>读取.
+	 *
+	 * @throws StreamCorruptedException
+	 *             数据不是本格式
+	 */
+	public PagedList<T> read(DataInput in) throws IOException {
+		PagedList<T> pagedList = factory.get();
+		pagedList.readExternal(in, elementCodec);
+		return pagedList;
+	}
+
+	/**
+	 * @return 编码后的字节
+	 */
+	public byte[] toBytes(PagedList<T> pagedList) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + pagedList.size() * 8);
+		try {
+			write(pagedList, new DataOutputStream(bytes));
+		} catch (IOException e) {
+			// ByteArrayOutputStream不会抛出IOException, 只可能来自ElementCodec
+			throw new IllegalStateException("Failed to encode " + pagedList, e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * 由{@link #toBytes(PagedList)}的结果还原.
+	 *
+	 * @throws IllegalArgumentException
+	 *             数据不合法
+	 */
+	public PagedList<T> fromBytes(byte[] bytes) {
+		AssertUtil.notNull(bytes, "bytes is null.");
+		try {
+			return read(new DataInputStream(new ByteArrayInputStream(bytes)));
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Illegal bytes of PagedList", e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> ElementCodec<T> objectCodec() {
+		return (ElementCodec<T>) OBJECT;
+	}
+
+	/**
+	 * 按zigzag变长整数写出.
+	 */
+	static void writeVarint(DataOutput out, int value) throws IOException {
+		int zigzag = (value << 1) ^ (value >> 31);
+		while ((zigzag & ~0x7F) != 0) {
+			out.writeByte((zigzag & 0x7F) | 0x80);
+			zigzag >>>= 7;
+		}
+		out.writeByte(zigzag);
+	}
+
+	static int readVarint(DataInput in) throws IOException {
+		int zigzag = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			byte b = in.readByte();
+			zigzag |= (b & 0x7F) << shift;
+			if (b >= 0) {
+				return (zigzag >>> 1) ^ -(zigzag & 1);
+			}
+		}
+		throw new StreamCorruptedException("Malformed varint");
+	}
+
+	static void writeVarLong(DataOutput out, long value) throws IOException {
+		long zigzag = (value << 1) ^ (value >> 63);
+		while ((zigzag & ~0x7FL) != 0) {
+			out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+			zigzag >>>= 7;
+		}
+		out.writeByte((int) zigzag);
+	}
+
+	static long readVarLong(DataInput in) throws IOException {
+		long zigzag = 0;
+		for (int shift = 0; shift < 70; shift += 7) {
+			byte b = in.readByte();
+			zigzag |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return (zigzag >>> 1) ^ -(zigzag & 1);
+			}
+		}
+		throw new StreamCorruptedException("Malformed varint");
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "PagedListCodec [elementCodec=" + elementCodec + "]";
+	}
+}
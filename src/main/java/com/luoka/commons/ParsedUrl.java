@@ -0,0 +1,352 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.Locale;
+
+/**
+ * 解析后的URL. <BR>
+ * 只扫描一遍字符串, 记录协议、用户信息、主机、端口、路径、查询和片段各部分在原字符串中的起止位置, 不复制任何字符,
+ * 各部分只在调用对应的get方法时才生成字符串. 与{@link java.net.URL}不同, 解析不依赖协议处理器,
+ * 不合法时返回<code>null</code>而不是抛出异常.<br>
+ * 按RFC 3986的通用语法解析, 两端的空白(不大于' '的字符)被忽略; 主机为IPv6地址时保留方括号. 对象不可变.
+ * @since zengqingmeng @ Oct 18, 2026 9:58:16 PM
+ *
+ * @see UrlUtil#getHost(String)
+ */
+public final class ParsedUrl {
+
+	/**
+	 * 协议, 如"http", 不含':'.
+	 */
+	public static final int SCHEME = 0;
+
+	/**
+	 * 用户信息, 如"user:password", 不含'@'.
+	 */
+	public static final int USER_INFO = 1;
+
+	/**
+	 * 主机.
+	 */
+	public static final int HOST = 2;
+
+	/**
+	 * 端口, 不含':'.
+	 */
+	public static final int PORT = 3;
+
+	/**
+	 * 路径, 含开头的'/'.
+	 */
+	public static final int PATH = 4;
+
+	/**
+	 * 查询, 不含'?'.
+	 */
+	public static final int QUERY = 5;
+
+	/**
+	 * 片段, 不含'#'.
+	 */
+	public static final int FRAGMENT = 6;
+
+	private static final int COMPONENTS = 7;
+
+	private final String source;
+
+	/**
+	 * 各部分的起止位置, 没有的部分为-1.
+	 */
+	private final int[] offsets = new int[COMPONENTS * 2];
+
+	private final boolean valid;
+
+	private ParsedUrl(String source) {
+		this.source = source;
+		for (int i = 0; i < offsets.length; i++) {
+			offsets[i] = -1;
+		}
+		this.valid = scan();
+	}
+
+	/**
+	 * 解析URL.
+	 *
+	 * @param url
+	 *            绝对或相对的URL
+	 * @return 解析结果; <code>url</code>为<code>null</code>、端口不是数字或IPv6地址缺少']'时返回<code>null</code>
+	 */
+	public static ParsedUrl parse(String url) {
+		if (url == null) {
+			return null;
+		}
+		ParsedUrl parsed = new ParsedUrl(url);
+		return parsed.valid ? parsed : null;
+	}
+
+	private boolean scan() {
+		int limit = source.length();
+		while (limit > 0 && source.charAt(limit - 1) <= ' ') {
+			limit--;
+		}
+		int pos = 0;
+		while (pos < limit && source.charAt(pos) <= ' ') {
+			pos++;
+		}
+		int schemeEnd = scanScheme(pos, limit);
+		if (schemeEnd > 0) {
+			set(SCHEME, pos, schemeEnd);
+			pos = schemeEnd + 1;
+		}
+		if (pos + 1 < limit && source.charAt(pos) == '/' && source.charAt(pos + 1) == '/') {
+			pos = scanAuthority(pos + 2, limit);
+			if (pos < 0) {
+				return false;
+			}
+		}
+		int pathEnd = pos;
+		while (pathEnd < limit) {
+			char ch = source.charAt(pathEnd);
+			if (ch == '?' || ch == '#') {
+				break;
+			}
+			pathEnd++;
+		}
+		set(PATH, pos, pathEnd);
+		pos = pathEnd;
+		if (pos < limit && source.charAt(pos) == '?') {
+			int queryEnd = source.indexOf('#', pos + 1);
+			if (queryEnd < 0 || queryEnd > limit) {
+				queryEnd = limit;
+			}
+			set(QUERY, pos + 1, queryEnd);
+			pos = queryEnd;
+		}
+		if (pos < limit) {
+			set(FRAGMENT, pos + 1, limit);
+		}
+		return true;
+	}
+
+	/**
+	 * @return 协议之后':'的位置; 没有协议时返回-1
+	 */
+	private int scanScheme(int from, int limit) {
+		if (from >= limit || !isAsciiLetter(source.charAt(from))) {
+			return -1;
+		}
+		for (int i = from + 1; i < limit; i++) {
+			char ch = source.charAt(i);
+			if (ch == ':') {
+				return i;
+			}
+			if (!isAsciiLetter(ch) && !(ch >= '0' && ch <= '9') && ch != '+'
+					&& ch != '-' && ch != '.') {
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return authority之后的位置; 不合法时返回-1
+	 */
+	private int scanAuthority(int from, int limit) {
+		int end = from;
+		int lastAt = -1;
+		while (end < limit) {
+			char ch = source.charAt(end);
+			if (ch == '/' || ch == '?' || ch == '#') {
+				break;
+			}
+			if (ch == '@') {
+				lastAt = end;
+			}
+			end++;
+		}
+		int hostStart = from;
+		if (lastAt >= 0) {
+			set(USER_INFO, from, lastAt);
+			hostStart = lastAt + 1;
+		}
+		int hostEnd;
+		if (hostStart < end && source.charAt(hostStart) == '[') {
+			int bracket = source.indexOf(']', hostStart);
+			if (bracket < 0 || bracket >= end) {
+				return -1;
+			}
+			hostEnd = bracket + 1;
+			if (hostEnd < end && source.charAt(hostEnd) != ':') {
+				return -1;
+			}
+		} else {
+			hostEnd = hostStart;
+			while (hostEnd < end && source.charAt(hostEnd) != ':') {
+				hostEnd++;
+			}
+		}
+		set(HOST, hostStart, hostEnd);
+		if (hostEnd < end) {
+			// ':'之后的端口, 可以为空
+			for (int i = hostEnd + 1; i < end; i++) {
+				char ch = source.charAt(i);
+				if (ch < '0' || ch > '9') {
+					return -1;
+				}
+			}
+			if (end - hostEnd - 1 > 5) {
+				return -1;
+			}
+			if (end > hostEnd + 1) {
+				set(PORT, hostEnd + 1, end);
+			}
+		}
+		return end;
+	}
+
+	private static boolean isAsciiLetter(char ch) {
+		return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+	}
+
+	private void set(int component, int start, int end) {
+		offsets[component * 2] = start;
+		offsets[component * 2 + 1] = end;
+	}
+
+	/**
+	 * @param component
+	 *            {@link #SCHEME}、{@link #HOST}等
+	 * @return 该部分是否存在(可以为空串)
+	 */
+	public boolean has(int component) {
+		return start(component) >= 0;
+	}
+
+	/**
+	 * @return 该部分在原字符串中的起始位置, 不存在时为-1
+	 */
+	public int start(int component) {
+		return offsets[component * 2];
+	}
+
+	/**
+	 * @return 该部分在原字符串中的结束位置(不含), 不存在时为-1
+	 */
+	public int end(int component) {
+		return offsets[component * 2 + 1];
+	}
+
+	/**
+	 * @return 该部分的字符串, 不存在时为<code>null</code>
+	 */
+	public String get(int component) {
+		int start = start(component);
+		return (start < 0) ? null : source.substring(start, end(component));
+	}
+
+	/**
+	 * @return 原字符串
+	 */
+	public String getSource() {
+		return source;
+	}
+
+	/**
+	 * @return 协议是否为<code>scheme</code>, 忽略大小写
+	 */
+	public boolean isScheme(String scheme) {
+		int start = start(SCHEME);
+		return start >= 0 && end(SCHEME) - start == scheme.length()
+				&& source.regionMatches(true, start, scheme, 0, scheme.length());
+	}
+
+	/**
+	 * @return 协议, 转为小写; 没有时为<code>null</code>
+	 */
+	public String getScheme() {
+		String scheme = get(SCHEME);
+		return (scheme == null) ? null : scheme.toLowerCase(Locale.ENGLISH);
+	}
+
+	public String getUserInfo() {
+		return get(USER_INFO);
+	}
+
+	/**
+	 * @return 主机, IPv6地址带方括号; 没有authority部分时为<code>null</code>
+	 */
+	public String getHost() {
+		return get(HOST);
+	}
+
+	/**
+	 * @return 端口; 没有指定时为-1
+	 */
+	public int getPort() {
+		int start = start(PORT);
+		if (start < 0) {
+			return -1;
+		}
+		int port = 0;
+		for (int i = start; i < end(PORT); i++) {
+			port = port * 10 + (source.charAt(i) - '0');
+		}
+		return port;
+	}
+
+	/**
+	 * @return 协议的默认端口: http/ws为80, https/wss为443, ftp为21, rtmp为1935, 其他为-1
+	 */
+	public int getDefaultPort() {
+		if (isScheme("http") || isScheme("ws")) {
+			return 80;
+		}
+		if (isScheme("https") || isScheme("wss")) {
+			return 443;
+		}
+		if (isScheme("ftp")) {
+			return 21;
+		}
+		if (isScheme("rtmp")) {
+			return 1935;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return authority部分(用户信息、主机和端口); 没有时为<code>null</code>
+	 */
+	public String getAuthority() {
+		if (!has(HOST)) {
+			return null;
+		}
+		int start = has(USER_INFO) ? start(USER_INFO) : start(HOST);
+		int end = start(PATH);
+		return source.substring(start, end);
+	}
+
+	/**
+	 * @return 路径, 可以为空串
+	 */
+	public String getPath() {
+		return get(PATH);
+	}
+
+	public String getQuery() {
+		return get(QUERY);
+	}
+
+	public String getFragment() {
+		return get(FRAGMENT);
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return source;
+	}
+}
@@ -0,0 +1,311 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8的百分号编解码(URL编码). <BR>
+ * 按查表判断字符是否需要转义, 直接在字符上完成UTF-8编码, 不查找字符集、不抛出受检异常;
+ * 不需要转义(或解码)时原样返回输入, 不产生新的对象. 结果也可以追加到调用方复用的{@link StringBuilder}中.<br>
+ * 按RFC 3986的不同组成部分提供了几种编码方式, 它们的区别只在于哪些字符不需要转义:
+ * <ul>
+ * <li>{@link #FORM}: application/x-www-form-urlencoded, 编码结果与{@link java.net.URLEncoder}一致, 空格编码为'+';
+ * 解码时拒绝不合法的转义(如{@link java.net.URLDecoder}接受的"%+e"、"%-0")</li>
+ * <li>{@link #PATH}: 路径, 保留'/'</li>
+ * <li>{@link #QUERY}: 查询参数的名称或值, 转义'&amp;'、'='和'+'</li>
+ * <li>{@link #FRAGMENT}: '#'之后的部分</li>
+ * </ul>
+ * 所有实例都是不可变的, 可被多个线程共享.
+ * @since zengqingmeng @ Oct 18, 2026 9:12:05 PM
+ *
+ * @see UrlUtil#encode(String)
+ */
+public final class PercentCodec {
+
+	private static final String UNRESERVED = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789-._~";
+
+	/**
+	 * application/x-www-form-urlencoded, 编码与URLEncoder一致; 解码拒绝不合法的转义.
+	 */
+	public static final PercentCodec FORM = new PercentCodec("FORM",
+			"abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789-._*", true);
+
+	/**
+	 * URL的路径部分: pchar和'/'不转义.
+	 */
+	public static final PercentCodec PATH = new PercentCodec("PATH", UNRESERVED
+			+ "!$&'()*+,;=:@/", false);
+
+	/**
+	 * 查询参数的名称或值: 在查询部分允许的字符中去掉了参数分隔用的'&amp;'、'='和'+'.
+	 */
+	public static final PercentCodec QUERY = new PercentCodec("QUERY", UNRESERVED
+			+ "!$'()*,;:@/?", false);
+
+	/**
+	 * '#'之后的部分: pchar、'/'和'?'不转义.
+	 */
+	public static final PercentCodec FRAGMENT = new PercentCodec("FRAGMENT",
+			UNRESERVED + "!$&'()*+,;=:@/?", false);
+
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	/**
+	 * 十六进制字符的值, 不是十六进制字符时为-1.
+	 */
+	private static final byte[] HEX_VALUES = new byte[128];
+
+	static {
+		for (int i = 0; i < HEX_VALUES.length; i++) {
+			HEX_VALUES[i] = (byte) Character.digit(i, 16);
+		}
+	}
+
+	private final String name;
+
+	/**
+	 * ASCII字符是否可以不转义.
+	 */
+	private final boolean[] safe = new boolean[128];
+
+	/**
+	 * 空格是否编码为'+', 同时'+'解码为空格.
+	 */
+	private final boolean plusForSpace;
+
+	private PercentCodec(String name, String safeChars, boolean plusForSpace) {
+		this.name = name;
+		for (int i = 0; i < safeChars.length(); i++) {
+			safe[safeChars.charAt(i)] = true;
+		}
+		this.plusForSpace = plusForSpace;
+	}
+
+	/**
+	 * 编码.
+	 *
+	 * @return 编码后的字符串; 不需要转义时返回<code>input.toString()</code>
+	 */
+	public String encode(CharSequence input) {
+		AssertUtil.notNull(input, "input is null.");
+		final int length = input.length();
+		int unsafe = indexOfUnsafe(input, 0, length);
+		if (unsafe == length) {
+			return input.toString();
+		}
+		StringBuilder sb = new StringBuilder(length + 16);
+		sb.append(input, 0, unsafe);
+		encodeFrom(input, unsafe, length, sb);
+		return sb.toString();
+	}
+
+	/**
+	 * 把<code>input</code>中<code>[from, to)</code>部分编码后追加到<code>out</code>.
+	 *
+	 * @return out
+	 */
+	public StringBuilder encode(CharSequence input, int from, int to,
+			StringBuilder out) {
+		AssertUtil.notNull(input, "input is null.");
+		int unsafe = indexOfUnsafe(input, from, to);
+		out.append(input, from, unsafe);
+		encodeFrom(input, unsafe, to, out);
+		return out;
+	}
+
+	/**
+	 * 把已是UTF-8编码的字节逐个编码后追加到<code>out</code>.
+	 *
+	 * @return out
+	 */
+	public StringBuilder encode(byte[] input, int from, int to,
+			StringBuilder out) {
+		AssertUtil.notNull(input, "input is null.");
+		for (int i = from; i < to; i++) {
+			int b = input[i] & 0xFF;
+			if (b < 128 && safe[b]) {
+				out.append((char) b);
+			} else if (b == ' ' && plusForSpace) {
+				out.append('+');
+			} else {
+				appendEscaped(out, b);
+			}
+		}
+		return out;
+	}
+
+	private int indexOfUnsafe(CharSequence input, int from, int to) {
+		for (int i = from; i < to; i++) {
+			char ch = input.charAt(i);
+			if (ch >= 128 || !safe[ch]) {
+				return i;
+			}
+		}
+		return to;
+	}
+
+	private void encodeFrom(CharSequence input, int from, int to,
+			StringBuilder out) {
+		int i = from;
+		while (i < to) {
+			char ch = input.charAt(i++);
+			if (ch < 0x80) {
+				if (safe[ch]) {
+					out.append(ch);
+				} else if (ch == ' ' && plusForSpace) {
+					out.append('+');
+				} else {
+					appendEscaped(out, ch);
+				}
+			} else if (ch < 0x800) {
+				appendEscaped(out, 0xC0 | (ch >> 6));
+				appendEscaped(out, 0x80 | (ch & 0x3F));
+			} else if (!Character.isSurrogate(ch)) {
+				appendEscaped(out, 0xE0 | (ch >> 12));
+				appendEscaped(out, 0x80 | ((ch >> 6) & 0x3F));
+				appendEscaped(out, 0x80 | (ch & 0x3F));
+			} else if (Character.isHighSurrogate(ch) && i < to
+					&& Character.isLowSurrogate(input.charAt(i))) {
+				int codePoint = Character.toCodePoint(ch, input.charAt(i++));
+				appendEscaped(out, 0xF0 | (codePoint >> 18));
+				appendEscaped(out, 0x80 | ((codePoint >> 12) & 0x3F));
+				appendEscaped(out, 0x80 | ((codePoint >> 6) & 0x3F));
+				appendEscaped(out, 0x80 | (codePoint & 0x3F));
+			} else {
+				// 不成对的代理字符, 与String.getBytes一样替换为'?'
+				appendEscaped(out, '?');
+			}
+		}
+	}
+
+	private static void appendEscaped(StringBuilder out, int b) {
+		out.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(
+				HEX_DIGITS[b & 0xF]);
+	}
+
+	/**
+	 * 解码. 转义后的字节按UTF-8解码, 不合法的字节序列替换为U+FFFD.
+	 *
+	 * @return 解码后的字符串; 不含转义时返回<code>input.toString()</code>
+	 * @throws IllegalArgumentException
+	 *             '%'之后不是两个十六进制字符
+	 */
+	public String decode(CharSequence input) {
+		AssertUtil.notNull(input, "input is null.");
+		final int length = input.length();
+		int special = indexOfEscape(input, 0, length);
+		if (special == length) {
+			return input.toString();
+		}
+		StringBuilder sb = new StringBuilder(length);
+		sb.append(input, 0, special);
+		decodeFrom(input, special, length, sb);
+		return sb.toString();
+	}
+
+	/**
+	 * 把<code>input</code>中<code>[from, to)</code>部分解码后追加到<code>out</code>.
+	 *
+	 * @return out
+	 * @throws IllegalArgumentException
+	 *             '%'之后不是两个十六进制字符
+	 * @see #decode(CharSequence)
+	 */
+	public StringBuilder decode(CharSequence input, int from, int to,
+			StringBuilder out) {
+		AssertUtil.notNull(input, "input is null.");
+		int special = indexOfEscape(input, from, to);
+		out.append(input, from, special);
+		decodeFrom(input, special, to, out);
+		return out;
+	}
+
+	/**
+	 * 在字节上解码, 结果仍是字节(不做UTF-8解码). <code>output</code>可以就是<code>input</code>,
+	 * 此时原地解码(要求<code>offset &lt;= from</code>).
+	 *
+	 * @return 写入<code>output</code>的字节数
+	 * @throws IllegalArgumentException
+	 *             '%'之后不是两个十六进制字符
+	 */
+	public int decode(byte[] input, int from, int to, byte[] output, int offset) {
+		AssertUtil.notNull(input, "input is null.");
+		AssertUtil.notNull(output, "output is null.");
+		int pos = offset;
+		int i = from;
+		while (i < to) {
+			byte b = input[i];
+			if (b == '%') {
+				if (i + 2 >= to) {
+					throw incompleteEscape();
+				}
+				output[pos++] = (byte) unescape(input[i + 1], input[i + 2]);
+				i += 3;
+			} else {
+				output[pos++] = (b == '+' && plusForSpace) ? (byte) ' ' : b;
+				i++;
+			}
+		}
+		return pos - offset;
+	}
+
+	private int indexOfEscape(CharSequence input, int from, int to) {
+		for (int i = from; i < to; i++) {
+			char ch = input.charAt(i);
+			if (ch == '%' || (ch == '+' && plusForSpace)) {
+				return i;
+			}
+		}
+		return to;
+	}
+
+	private void decodeFrom(CharSequence input, int from, int to,
+			StringBuilder out) {
+		// 连续的转义字节先收集起来, 再一起按UTF-8解码
+		byte[] bytes = null;
+		int i = from;
+		while (i < to) {
+			char ch = input.charAt(i);
+			if (ch == '%') {
+				if (bytes == null) {
+					bytes = new byte[(to - i) / 3 + 1];
+				}
+				int count = 0;
+				do {
+					if (i + 2 >= to) {
+						throw incompleteEscape();
+					}
+					bytes[count++] = (byte) unescape(input.charAt(i + 1), input.charAt(i + 2));
+					i += 3;
+				} while (i < to && input.charAt(i) == '%');
+				out.append(new String(bytes, 0, count, StandardCharsets.UTF_8));
+			} else {
+				out.append((ch == '+' && plusForSpace) ? ' ' : ch);
+				i++;
+			}
+		}
+	}
+
+	private static int unescape(int high, int low) {
+		int h = (high >= 0 && high < 128) ? HEX_VALUES[high] : -1;
+		int l = (low >= 0 && low < 128) ? HEX_VALUES[low] : -1;
+		if (h < 0 || l < 0) {
+			throw new IllegalArgumentException("Illegal hex characters in escape (%) pattern");
+		}
+		return (h << 4) | l;
+	}
+
+	private static IllegalArgumentException incompleteEscape() {
+		return new IllegalArgumentException("Incomplete trailing escape (%) pattern");
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "PercentCodec [" + name + "]";
+	}
+}
@@ -0,0 +1,228 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 编译后的字符串前缀集合, 用于判断路径等是否以其中某个前缀开头. <BR>
+ * 内部是按字符展开的前缀树, 压缩在几个数组中: 每个节点的子节点按字符排序连续存放, 查找时二分.
+ * 一次匹配只需走过待匹配字符串本身的长度, 与前缀的个数无关, 适合代替{@link ArrayUtil#prefixMatch(String[], String)}
+ * 对同一组前缀反复匹配的场合.<br>
+ * 空串作为前缀时匹配任何字符串. 编译后的对象不可变, 可被多个线程共享.
+ * @since zengqingmeng @ Oct 19, 2026 12:42:16 AM
+ *
+ */
+public final class PrefixMatcher {
+
+	/**
+	 * 节点n的子节点是下标[firstEdge[n], firstEdge[n + 1])的边.
+	 */
+	private final int[] firstEdge;
+
+	/**
+	 * 边上的字符, 同一节点的边按字符升序.
+	 */
+	private final char[] labels;
+
+	/**
+	 * 边指向的节点.
+	 */
+	private final int[] targets;
+
+	/**
+	 * 到该节点为止的字符串是第几个前缀, 不是前缀时为-1.
+	 */
+	private final int[] prefixIndex;
+
+	private final List<String> prefixes;
+
+	private PrefixMatcher(List<String> prefixes) {
+		Node root = new Node();
+		for (int i = 0; i < prefixes.size(); i++) {
+			String prefix = prefixes.get(i);
+			Node node = root;
+			for (int j = 0; j < prefix.length(); j++) {
+				node = node.child(prefix.charAt(j));
+			}
+			if (node.prefixIndex < 0) {
+				node.prefixIndex = i;
+			}
+		}
+		// 按层次编号, 使每个节点的边连续存放
+		List<Node> nodes = new ArrayList<Node>();
+		nodes.add(root);
+		int edgeCount = 0;
+		for (int i = 0; i < nodes.size(); i++) {
+			Node node = nodes.get(i);
+			if (node.children != null) {
+				nodes.addAll(node.children.values());
+				edgeCount += node.children.size();
+			}
+		}
+		this.firstEdge = new int[nodes.size() + 1];
+		this.labels = new char[edgeCount];
+		this.targets = new int[edgeCount];
+		this.prefixIndex = new int[nodes.size()];
+		int edge = 0;
+		int nextNode = 1;
+		for (int i = 0; i < nodes.size(); i++) {
+			Node node = nodes.get(i);
+			firstEdge[i] = edge;
+			prefixIndex[i] = node.prefixIndex;
+			if (node.children != null) {
+				for (Character label : node.children.keySet()) {
+					labels[edge] = label.charValue();
+					targets[edge] = nextNode++;
+					edge++;
+				}
+			}
+		}
+		firstEdge[nodes.size()] = edge;
+		this.prefixes = Collections.unmodifiableList(prefixes);
+	}
+
+	/**
+	 * 由前缀数组编译, <code>null</code>元素被忽略.
+	 *
+	 * @param prefixes
+	 *            前缀
+	 */
+	public static PrefixMatcher compile(String... prefixes) {
+		AssertUtil.notNull(prefixes, "prefixes is null.");
+		return compile(Arrays.asList(prefixes));
+	}
+
+	/**
+	 * 由前缀集合编译, <code>null</code>元素被忽略.
+	 *
+	 * @see #compile(String...)
+	 */
+	public static PrefixMatcher compile(Collection<String> prefixes) {
+		AssertUtil.notNull(prefixes, "prefixes is null.");
+		List<String> list = new ArrayList<String>(prefixes.size());
+		for (String prefix : prefixes) {
+			if (prefix != null) {
+				list.add(prefix);
+			}
+		}
+		return new PrefixMatcher(list);
+	}
+
+	/**
+	 * @return 从<code>node</code>经字符<code>ch</code>到达的节点, 没有时返回-1
+	 */
+	private int next(int node, char ch) {
+		int low = firstEdge[node];
+		int high = firstEdge[node + 1] - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			char label = labels[middle];
+			if (label < ch) {
+				low = middle + 1;
+			} else if (label > ch) {
+				high = middle - 1;
+			} else {
+				return targets[middle];
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return 是否以某个前缀开头; <code>str</code>为<code>null</code>时返回<code>false</code>
+	 */
+	public boolean matches(CharSequence str) {
+		if (str == null) {
+			return false;
+		}
+		int node = 0;
+		for (int i = 0; ; i++) {
+			if (prefixIndex[node] >= 0) {
+				return true;
+			}
+			if (i == str.length()) {
+				return false;
+			}
+			node = next(node, str.charAt(i));
+			if (node < 0) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * @return 匹配的最长前缀的长度, 没有匹配时返回-1
+	 */
+	public int longestMatchLength(CharSequence str) {
+		int index = longestMatchIndex(str);
+		return (index < 0) ? -1 : prefixes.get(index).length();
+	}
+
+	/**
+	 * @return 匹配的最长前缀, 没有匹配时返回<code>null</code>
+	 */
+	public String longestMatch(CharSequence str) {
+		int index = longestMatchIndex(str);
+		return (index < 0) ? null : prefixes.get(index);
+	}
+
+	private int longestMatchIndex(CharSequence str) {
+		if (str == null) {
+			return -1;
+		}
+		int node = 0;
+		int longest = prefixIndex[0];
+		for (int i = 0; i < str.length(); i++) {
+			node = next(node, str.charAt(i));
+			if (node < 0) {
+				break;
+			}
+			if (prefixIndex[node] >= 0) {
+				longest = prefixIndex[node];
+			}
+		}
+		return longest;
+	}
+
+	/**
+	 * @return 编译时给定的前缀(不含<code>null</code>)
+	 */
+	public List<String> getPrefixes() {
+		return prefixes;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "PrefixMatcher " + prefixes;
+	}
+
+	/**
+	 * 编译时使用的前缀树节点.
+	 */
+	private static final class Node {
+		private TreeMap<Character, Node> children;
+		private int prefixIndex = -1;
+
+		private Node child(char ch) {
+			if (children == null) {
+				children = new TreeMap<Character, Node>();
+			}
+			Node child = children.get(Character.valueOf(ch));
+			if (child == null) {
+				child = new Node();
+				children.put(Character.valueOf(ch), child);
+			}
+			return child;
+		}
+	}
+}
@@ -0,0 +1,347 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 公共后缀(Public Suffix)索引, 用于求主机名的可注册域名(如"www.luoka.com.cn"的"luoka.com.cn"). <BR>
+ * 规则编译为按标签倒序的前缀树, 查找时从主机名末尾逐个标签向前比较, 不使用正则表达式, 不分割字符串,
+ * 也不创建任何对象; 结果以在原主机名中的位置给出. 支持Public Suffix List的通配规则("*.ck")和例外规则("!www.ck"),
+ * 没有任何规则匹配时按最后一个标签是公共后缀处理.<br>
+ * 比较时忽略ASCII字母的大小写. 编译后的索引不可变, 可被多个线程共享.
+ * @since zengqingmeng @ Oct 18, 2026 9:35:42 PM
+ *
+ * @see UrlUtil#getRegistrableDomain(String)
+ */
+public final class PublicSuffixes {
+
+	/**
+	 * 随本包发布的公共后缀列表.
+	 */
+	private static final String DEFAULT_RESOURCE = "public_suffix_list.dat";
+
+	private final Node root;
+
+	private final int size;
+
+	private PublicSuffixes(Node root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * @return 由随本包发布的公共后缀列表编译的索引
+	 */
+	public static PublicSuffixes getDefault() {
+		return DefaultHolder.INSTANCE;
+	}
+
+	/**
+	 * 由规则编译.
+	 *
+	 * @param rules
+	 *            如"com", "com.cn", "*.ck", "!www.ck"; 空串和以"//"开头的注释被忽略
+	 * @throws IllegalArgumentException
+	 *             规则不合法
+	 */
+	public static PublicSuffixes compile(Collection<String> rules) {
+		AssertUtil.notNull(rules, "rules is null.");
+		MutableNode mutableRoot = new MutableNode();
+		int count = 0;
+		for (String rule : rules) {
+			AssertUtil.notNull(rule, "rule is null.");
+			String trimmed = rule.trim();
+			if (trimmed.isEmpty() || trimmed.startsWith("//")) {
+				continue;
+			}
+			mutableRoot.insert(trimmed);
+			count++;
+		}
+		return new PublicSuffixes(mutableRoot.freeze(), count);
+	}
+
+	/**
+	 * 从Public Suffix List格式(UTF-8, 每行一条规则)的流中读取规则并编译. 不关闭流.
+	 *
+	 * @throws IOException
+	 *             读取失败
+	 * @see #compile(Collection)
+	 */
+	public static PublicSuffixes load(InputStream in) throws IOException {
+		AssertUtil.notNull(in, "in is null.");
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in,
+				StandardCharsets.UTF_8));
+		List<String> rules = new ArrayList<String>();
+		String line;
+		while ((line = reader.readLine()) != null) {
+			// 规则到第一个空白为止
+			int end = 0;
+			while (end < line.length() && !Character.isWhitespace(line.charAt(end))) {
+				end++;
+			}
+			if (end > 0) {
+				rules.add(line.substring(0, end));
+			}
+		}
+		return compile(rules);
+	}
+
+	/**
+	 * 求公共后缀在主机名中的起始位置.
+	 *
+	 * @param host
+	 *            主机名, 不带端口, 末尾不带'.'
+	 * @return 公共后缀的起始位置; 主机名为空、以'.'开头或结尾、含有空标签时返回-1
+	 */
+	public int getPublicSuffixStart(CharSequence host) {
+		if (host == null) {
+			return -1;
+		}
+		final int length = host.length();
+		if (length == 0 || host.charAt(0) == '.' || host.charAt(length - 1) == '.') {
+			return -1;
+		}
+		Node node = root;
+		int labelEnd = length;
+		// 没有规则匹配时, 最后一个标签即为公共后缀
+		int suffixStart = -1;
+		int previousStart = length + 1;
+		while (labelEnd > 0) {
+			int labelStart = labelEnd;
+			while (labelStart > 0 && host.charAt(labelStart - 1) != '.') {
+				labelStart--;
+			}
+			if (labelStart == labelEnd) {
+				return -1;
+			}
+			if (suffixStart < 0) {
+				suffixStart = labelStart;
+			}
+			if (node == null) {
+				break;
+			}
+			Node child = node.find(host, labelStart, labelEnd);
+			if (child != null && child.exception) {
+				// 例外规则: 公共后缀是去掉最左一个标签后的部分
+				return previousStart;
+			}
+			if (node.wildcard || (child != null && child.rule)) {
+				suffixStart = labelStart;
+			}
+			node = child;
+			previousStart = labelStart;
+			labelEnd = labelStart - 1;
+		}
+		return suffixStart;
+	}
+
+	/**
+	 * 求可注册域名(公共后缀再加上它左边的一个标签)在主机名中的起始位置.
+	 *
+	 * @return 起始位置; 主机名本身就是公共后缀、是IPv4地址或不合法时返回-1
+	 * @see #getPublicSuffixStart(CharSequence)
+	 */
+	public int getRegistrableDomainStart(CharSequence host) {
+		int suffixStart = getPublicSuffixStart(host);
+		if (suffixStart <= 0 || isNumeric(host, suffixStart, host.length())) {
+			return -1;
+		}
+		int start = suffixStart - 1;
+		while (start > 0 && host.charAt(start - 1) != '.') {
+			start--;
+		}
+		return start;
+	}
+
+	/**
+	 * @return 可注册域名, 如"www.luoka.com.cn"的"luoka.com.cn"; 没有时返回<code>null</code>
+	 * @see #getRegistrableDomainStart(CharSequence)
+	 */
+	public String getRegistrableDomain(String host) {
+		int start = getRegistrableDomainStart(host);
+		return (start < 0) ? null : host.substring(start);
+	}
+
+	/**
+	 * @return 主机名本身是否就是公共后缀, 如"com.cn"
+	 */
+	public boolean isPublicSuffix(CharSequence host) {
+		return getPublicSuffixStart(host) == 0;
+	}
+
+	/**
+	 * @return 规则条数
+	 */
+	public int size() {
+		return size;
+	}
+
+	private static boolean isNumeric(CharSequence host, int from, int to) {
+		for (int i = from; i < to; i++) {
+			char ch = host.charAt(i);
+			if (ch < '0' || ch > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "PublicSuffixes [size=" + size + "]";
+	}
+
+	/**
+	 * 编译后的前缀树节点, 子节点按标签排序以便二分查找.
+	 */
+	private static final class Node {
+		private final String[] labels;
+		private final Node[] children;
+
+		/**
+		 * 到该节点为止的标签是一条规则.
+		 */
+		private final boolean rule;
+
+		/**
+		 * 到该节点为止的标签是一条例外规则.
+		 */
+		private final boolean exception;
+
+		/**
+		 * 有以该节点为后缀的通配规则.
+		 */
+		private final boolean wildcard;
+
+		private Node(String[] labels, Node[] children, boolean rule,
+				boolean exception, boolean wildcard) {
+			this.labels = labels;
+			this.children = children;
+			this.rule = rule;
+			this.exception = exception;
+			this.wildcard = wildcard;
+		}
+
+		private Node find(CharSequence host, int from, int to) {
+			int low = 0;
+			int high = labels.length - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				int cmp = compare(labels[mid], host, from, to);
+				if (cmp < 0) {
+					low = mid + 1;
+				} else if (cmp > 0) {
+					high = mid - 1;
+				} else {
+					return children[mid];
+				}
+			}
+			return null;
+		}
+
+		private static int compare(String label, CharSequence host, int from, int to) {
+			int length = Math.min(label.length(), to - from);
+			for (int i = 0; i < length; i++) {
+				char ch = host.charAt(from + i);
+				if (ch >= 'A' && ch <= 'Z') {
+					ch += 'a' - 'A';
+				}
+				int diff = label.charAt(i) - ch;
+				if (diff != 0) {
+					return diff;
+				}
+			}
+			return label.length() - (to - from);
+		}
+	}
+
+	/**
+	 * 编译时使用的前缀树节点.
+	 */
+	private static final class MutableNode {
+		private final Map<String, MutableNode> children = new TreeMap<String, MutableNode>();
+		private boolean rule;
+		private boolean exception;
+		private boolean wildcard;
+
+		private void insert(String text) {
+			boolean isException = text.charAt(0) == '!';
+			String rule = (isException ? text.substring(1) : text).toLowerCase(Locale.ENGLISH);
+			if (rule.isEmpty() || rule.startsWith(".") || rule.endsWith(".")
+					|| rule.contains("..") || rule.indexOf('*', 1) >= 0
+					|| (rule.charAt(0) == '*' && rule.length() > 1 && rule.charAt(1) != '.')
+					|| (isException && (rule.indexOf('*') >= 0 || rule.indexOf('.') < 0))) {
+				throw new IllegalArgumentException("Illegal public suffix rule: " + text);
+			}
+			MutableNode node = this;
+			int end = rule.length();
+			while (end > 0) {
+				int start = rule.lastIndexOf('.', end - 1) + 1;
+				String label = rule.substring(start, end);
+				if (label.equals("*")) {
+					node.wildcard = true;
+					return;
+				}
+				MutableNode child = node.children.get(label);
+				if (child == null) {
+					child = new MutableNode();
+					node.children.put(label, child);
+				}
+				node = child;
+				end = start - 1;
+			}
+			if (isException) {
+				node.exception = true;
+			} else {
+				node.rule = true;
+			}
+		}
+
+		private Node freeze() {
+			String[] labels = new String[children.size()];
+			Node[] frozen = new Node[children.size()];
+			int i = 0;
+			for (Map.Entry<String, MutableNode> entry : children.entrySet()) {
+				labels[i] = entry.getKey();
+				frozen[i] = entry.getValue().freeze();
+				i++;
+			}
+			return new Node(labels, frozen, rule, exception, wildcard);
+		}
+	}
+
+	private static final class DefaultHolder {
+		private static final PublicSuffixes INSTANCE = loadDefault();
+
+		private static PublicSuffixes loadDefault() {
+			InputStream in = PublicSuffixes.class.getResourceAsStream(DEFAULT_RESOURCE);
+			if (in == null) {
+				throw new IllegalStateException("Resource not found: " + DEFAULT_RESOURCE);
+			}
+			try {
+				try {
+					return load(in);
+				} finally {
+					in.close();
+				}
+			} catch (IOException e) {
+				throw new IllegalStateException("Failed to load " + DEFAULT_RESOURCE, e);
+			}
+		}
+	}
+}
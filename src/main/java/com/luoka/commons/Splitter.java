@@ -0,0 +1,377 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 不依赖正则表达式的单遍字符串分割器. <BR>
+ * 支持两种分隔方式: 整个字符串作为分隔符({@link #on(String)}), 或任一字符作为分隔符
+ * ({@link #onAnyOf(String)}, 同StringTokenizer). 分割结果可以是字符串数组, 可以追加到调用方复用的集合中,
+ * 也可以通过{@link #tokenize(CharSequence)}逐个取得原字符串上的视图而不复制任何字符.<br>
+ * 分割器不可变, 可被多个线程共享; {@link #trimResults()}和{@link #omitEmptyStrings()}返回新的分割器.
+ * @since zengqingmeng @ Oct 18, 2026 5:02:36 PM
+ *
+ */
+public final class Splitter {
+
+	/**
+	 * StringTokenizer的默认分隔符.
+	 */
+	public static final String WHITESPACE = " \t\n\r\f";
+
+	private static final String[] NO_STRING = new String[0];
+
+	/**
+	 * 整串分隔符, 按字符集分隔时为<code>null</code>.
+	 */
+	private final String separator;
+
+	/**
+	 * 分隔字符集; 全为ASCII字符时用{@link #asciiMask}判断.
+	 */
+	private final char[] separatorChars;
+
+	private final long[] asciiMask;
+
+	private final boolean trim;
+
+	private final boolean omitEmpty;
+
+	private Splitter(String separator, char[] separatorChars, boolean trim,
+			boolean omitEmpty) {
+		this.separator = separator;
+		this.separatorChars = separatorChars;
+		this.trim = trim;
+		this.omitEmpty = omitEmpty;
+		long[] mask = null;
+		if (separatorChars != null) {
+			mask = new long[2];
+			for (char ch : separatorChars) {
+				if (ch >= 128) {
+					mask = null;
+					break;
+				}
+				mask[ch >> 6] |= 1L << ch;
+			}
+		}
+		this.asciiMask = mask;
+	}
+
+	/**
+	 * 以整个字符串作为分隔符.
+	 *
+	 * @param separator
+	 *            分隔符, 不允许为<code>null</code>或空串
+	 */
+	public static Splitter on(String separator) {
+		AssertUtil.notNull(separator, "separator is null.");
+		if (separator.length() == 0) {
+			throw new IllegalArgumentException("separator is empty.");
+		}
+		return new Splitter(separator, null, false, false);
+	}
+
+	/**
+	 * 以给定字符串中的任一字符作为分隔符, 同<code>new StringTokenizer(str, chars)</code>.
+	 *
+	 * @param chars
+	 *            分隔字符集, 不允许为<code>null</code>; 为空串时不分割
+	 */
+	public static Splitter onAnyOf(String chars) {
+		AssertUtil.notNull(chars, "chars is null.");
+		char[] sorted = chars.toCharArray();
+		Arrays.sort(sorted);
+		return new Splitter(null, sorted, false, false);
+	}
+
+	/**
+	 * 以空白字符{@link #WHITESPACE}作为分隔符.
+	 */
+	public static Splitter onWhitespace() {
+		return onAnyOf(WHITESPACE);
+	}
+
+	/**
+	 * @return 对每段结果做{@link String#trim()}的分割器
+	 */
+	public Splitter trimResults() {
+		return new Splitter(separator, separatorChars, true, omitEmpty);
+	}
+
+	/**
+	 * @return 忽略空段(若同时trim, 则为trim后的空段)的分割器
+	 */
+	public Splitter omitEmptyStrings() {
+		return new Splitter(separator, separatorChars, trim, true);
+	}
+
+	/**
+	 * 分割为字符串数组.
+	 *
+	 * @param source
+	 *            原字符串, 不允许为<code>null</code>
+	 */
+	public String[] splitToArray(CharSequence source) {
+		AssertUtil.notNull(source, "source is null.");
+		int[] bounds = new int[16];
+		int count = 0;
+		Tokens tokens = new Tokens(source);
+		while (tokens.advance()) {
+			if (count + 2 > bounds.length) {
+				bounds = Arrays.copyOf(bounds, bounds.length << 1);
+			}
+			bounds[count++] = tokens.start;
+			bounds[count++] = tokens.end;
+		}
+		if (count == 0) {
+			return NO_STRING;
+		}
+		String[] results = new String[count >> 1];
+		for (int i = 0; i < results.length; i++) {
+			results[i] = substring(source, bounds[i << 1], bounds[(i << 1) + 1]);
+		}
+		return results;
+	}
+
+	/**
+	 * 分割并把结果追加到给定集合中, 集合可由调用方复用以避免每次创建.
+	 *
+	 * @param source
+	 *            原字符串, 不允许为<code>null</code>
+	 * @param results
+	 *            存放结果的集合
+	 * @return 追加的段数
+	 */
+	public int split(CharSequence source, Collection<? super String> results) {
+		AssertUtil.notNull(source, "source is null.");
+		AssertUtil.notNull(results, "results is null.");
+		int count = 0;
+		Tokens tokens = new Tokens(source);
+		while (tokens.advance()) {
+			results.add(substring(source, tokens.start, tokens.end));
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * @return 分割得到的段数, 不创建任何字符串
+	 */
+	public int countTokens(CharSequence source) {
+		AssertUtil.notNull(source, "source is null.");
+		int count = 0;
+		Tokens tokens = new Tokens(source);
+		while (tokens.advance()) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 逐段遍历, 每段以原字符串上的视图返回, 不复制字符. 原字符串在遍历期间不应被修改.
+	 *
+	 * @param source
+	 *            原字符串, 不允许为<code>null</code>
+	 */
+	public Tokens tokenize(CharSequence source) {
+		AssertUtil.notNull(source, "source is null.");
+		return new Tokens(source);
+	}
+
+	private static String substring(CharSequence source, int start, int end) {
+		return source.subSequence(start, end).toString();
+	}
+
+	/**
+	 * @return 从<code>from</code>起第一个分隔符的位置, 没有时为-1
+	 */
+	private int indexOfSeparator(CharSequence source, int from) {
+		final int length = source.length();
+		if (separator != null) {
+			if (source instanceof String) {
+				return ((String) source).indexOf(separator, from);
+			}
+			final char first = separator.charAt(0);
+			final int last = length - separator.length();
+			outer: for (int i = from; i <= last; i++) {
+				if (source.charAt(i) != first) {
+					continue;
+				}
+				for (int j = 1; j < separator.length(); j++) {
+					if (source.charAt(i + j) != separator.charAt(j)) {
+						continue outer;
+					}
+				}
+				return i;
+			}
+			return -1;
+		}
+		if (separatorChars.length == 1 && source instanceof String) {
+			return ((String) source).indexOf(separatorChars[0], from);
+		}
+		for (int i = from; i < length; i++) {
+			if (isSeparatorChar(source.charAt(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private boolean isSeparatorChar(char ch) {
+		if (asciiMask != null) {
+			return ch < 128 && (asciiMask[ch >> 6] & (1L << ch)) != 0;
+		}
+		return Arrays.binarySearch(separatorChars, ch) >= 0;
+	}
+
+	/**
+	 * 分割结果的游标. 既可作为{@link Iterator}逐个取得视图, 也可调用{@link #advance()}后直接读取
+	 * {@link #start()}和{@link #end()}, 完全不创建对象. 非线程安全.
+	 */
+	public final class Tokens implements Iterator<CharSequence>, Iterable<CharSequence> {
+		private final CharSequence source;
+		private int position;
+		private int start = -1;
+		private int end = -1;
+		private boolean peeked;
+		private boolean hasPeeked;
+
+		Tokens(CharSequence source) {
+			this.source = source;
+		}
+
+		/**
+		 * 移到下一段.
+		 *
+		 * @return 没有更多段时返回<code>false</code>
+		 */
+		public boolean advance() {
+			if (hasPeeked) {
+				hasPeeked = false;
+				return peeked;
+			}
+			final int length = source.length();
+			while (position <= length) {
+				int from = position;
+				int index = indexOfSeparator(source, from);
+				int to = (index < 0) ? length : index;
+				// 最后一段之后position越过length, 以结束遍历
+				position = (index < 0) ? length + 1 : index
+						+ ((separator != null) ? separator.length() : 1);
+				if (trim) {
+					while (from < to && source.charAt(from) <= ' ') {
+						from++;
+					}
+					while (to > from && source.charAt(to - 1) <= ' ') {
+						to--;
+					}
+				}
+				if (omitEmpty && from == to) {
+					continue;
+				}
+				start = from;
+				end = to;
+				return true;
+			}
+			start = -1;
+			end = -1;
+			return false;
+		}
+
+		/**
+		 * @return 当前段在原字符串中的起始位置
+		 */
+		public int start() {
+			return start;
+		}
+
+		/**
+		 * @return 当前段在原字符串中的结束位置(不含)
+		 */
+		public int end() {
+			return end;
+		}
+
+		/**
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			if (!hasPeeked) {
+				peeked = advance();
+				hasPeeked = true;
+			}
+			return peeked;
+		}
+
+		/**
+		 * @return 当前段的视图, 与原字符串共享字符
+		 */
+		@Override
+		public CharSequence next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			hasPeeked = false;
+			return new Slice(source, start, end);
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Iterator<CharSequence> iterator() {
+			return this;
+		}
+	}
+
+	/**
+	 * 原字符串上的只读视图.
+	 */
+	private static final class Slice implements CharSequence {
+		private final CharSequence source;
+		private final int offset;
+		private final int length;
+
+		Slice(CharSequence source, int start, int end) {
+			this.source = source;
+			this.offset = start;
+			this.length = end - start;
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= length) {
+				throw new IndexOutOfBoundsException("index: " + index
+						+ ", length: " + length);
+			}
+			return source.charAt(offset + index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if (start < 0 || end > length || start > end) {
+				throw new IndexOutOfBoundsException("start: " + start + ", end: "
+						+ end + ", length: " + length);
+			}
+			return new Slice(source, offset + start, offset + end);
+		}
+
+		@Override
+		public String toString() {
+			return source.subSequence(offset, offset + length).toString();
+		}
+	}
+}
@@ -4,17 +4,12 @@
 package com.luoka.commons;
 
 import java.io.UnsupportedEncodingException;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.text.DecimalFormat;
 import java.text.ParseException;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.StringTokenizer;
 import java.util.regex.Pattern;
 
 /**
@@ -43,6 +38,8 @@ public class StringHelper {
 		return result;
 	}
 
+	private static final StringReplacer HTML_TAG_ESCAPER = StringReplacer.compile("<", "&lt;", ">", "&gt;");
+
 	/**
 	 * 转换html标签(<,>)
 	 * 
@@ -50,9 +47,7 @@ public class StringHelper {
 	 * @return
 	 */
 	public static String escape(String src) {
-		src = src.replaceAll("<", "&lt;");
-		src = src.replaceAll(">", "&gt;");
-		return src;
+		return HTML_TAG_ESCAPER.replace(src);
 	}
 	
 	/**
@@ -70,17 +65,9 @@ public class StringHelper {
 		if (origin == null) {
 			return null;
 		}
-		StringTokenizer st = (token == null) ? new StringTokenizer(origin)
-				: new StringTokenizer(origin, token);
-		final int countTokens = st.countTokens();
-		if (countTokens <= 0) {
-			return new String[] { origin };
-		}
-		String[] results = new String[countTokens];
-		for (int i = 0; i < countTokens; i++) {
-			results[i] = st.nextToken();
-		}
-		return results;
+		String[] results = Splitter.onAnyOf((token == null) ? Splitter.WHITESPACE : token)
+				.omitEmptyStrings().splitToArray(origin);
+		return (results.length == 0) ? new String[] { origin } : results;
 	}
 
 	/**
@@ -557,20 +544,12 @@ public class StringHelper {
 			return null;
 		}
 		origin = origin.trim();
-		final StringTokenizer st = new StringTokenizer(origin, token);
-		final int countTokens = st.countTokens();
-		if (countTokens <= 0) {
+		final Splitter splitter = Splitter.onAnyOf(token).omitEmptyStrings();
+		String[] results = splitter.trimResults().splitToArray(origin);
+		if (results.length == 0 && splitter.countTokens(origin) == 0) {
 			return new String[] { origin };
 		}
-		List<String> strs = new ArrayList<String>(countTokens);
-		String str;
-		for (int i = 0; i < countTokens; i++) {
-			str = st.nextToken().trim();
-			if (str.length() > 0) {
-				strs.add(str);
-			}
-		}
-		return strs.toArray(new String[0]);
+		return results;
 	}
 
 	public static String hexToStr(String hex) {
@@ -767,7 +746,8 @@ public class StringHelper {
 	}
 
 	/**
-	 * 字符串替换, 不基于正则表达式, 并且适用于JDK1.3. 各种情况的返回值参见测试用例:
+	 * 字符串替换, 不基于正则表达式. 从左到右查找不重叠的旧字符串, 替换后的内容不再参与查找;
+	 * 先算出结果长度再一次性写入, 耗时与原字符串长度成线性关系. 各种情况的返回值参见测试用例:
 	 * {@link LangUtilTest#testReplaceAll()} in Util_JDK14.
 	 * 
 	 * @param origin
@@ -777,6 +757,7 @@ public class StringHelper {
 	 * @param replacement
 	 *            用来替换旧字符串的新字符串
 	 * @return 替换处理后的字符串
+	 * @see StringReplacer 同时替换多个旧字符串
 	 */
 	public static String replaceAll(String origin, String oldPart,
 			String replacement) {
@@ -794,13 +775,23 @@ public class StringHelper {
 			return origin;
 		}
 
-		StringBuffer sb = new StringBuffer(origin);
-		do {
-			sb.replace(index, index + oldPart.length(), replacement);
-			origin = sb.toString();
-			index = origin.indexOf(oldPart);
-		} while (index != -1);
-		return origin;
+		final int oldLength = oldPart.length();
+		int count = 0;
+		for (int i = index; i >= 0; i = origin.indexOf(oldPart, i + oldLength)) {
+			count++;
+		}
+		char[] result = new char[origin.length() + count * (replacement.length() - oldLength)];
+		int from = 0;
+		int pos = 0;
+		for (int i = index; i >= 0; i = origin.indexOf(oldPart, from)) {
+			origin.getChars(from, i, result, pos);
+			pos += i - from;
+			replacement.getChars(0, replacement.length(), result, pos);
+			pos += replacement.length();
+			from = i + oldLength;
+		}
+		origin.getChars(from, origin.length(), result, pos);
+		return new String(result);
 	}
 
 	/**
@@ -1008,10 +999,7 @@ public class StringHelper {
 	 * @return
 	 */
 	public static boolean isNumeric(String input) {
-		if (StringHelper.isEmpty(input))
-			return false;
-		Pattern pattern = Pattern.compile("^[-|+]?(\\d+)(\\.\\d+)?");
-		return pattern.matcher(input).matches();
+		return Validators.NUMERIC.isValid(input);
 	}
 
 	/**
@@ -1021,10 +1009,7 @@ public class StringHelper {
 	 * @return
 	 */
 	public static boolean isInteger(String input) {
-		if (StringHelper.isEmpty(input))
-			return false;
-		Pattern pattern = Pattern.compile("^[-|+]?[1-9][0-9]*");
-		return pattern.matcher(input).matches();
+		return Validators.INTEGER.isValid(input);
 	}
 
 	/**
@@ -1034,10 +1019,7 @@ public class StringHelper {
 	 * @return
 	 */
 	public static boolean isPositiveInteger(String input) {
-		if (StringHelper.isEmpty(input))
-			return false;
-		Pattern pattern = Pattern.compile("^[1-9][0-9]*");
-		return pattern.matcher(input).matches();
+		return Validators.POSITIVE_INTEGER.isValid(input);
 	}
 
 	/**
@@ -1047,11 +1029,7 @@ public class StringHelper {
 	 * @return
 	 */
 	public static boolean isTelphone(String input) {
-		if (StringHelper.isEmpty(input))
-			return false;
-		Pattern pattern = Pattern
-				.compile("^(((\\+|0)[0-9]{2,3})-)?((0[0-9]{2,3})-)?([0-9]{8})(-([0-9]{3,4}))?$");
-		return pattern.matcher(input).matches();
+		return Validators.TELEPHONE.isValid(input);
 	}
 
 	/**
@@ -1064,9 +1042,7 @@ public class StringHelper {
 	 * @return
 	 */
 	public static boolean isMobile(String input) {
-		if (false == isNumeric(input))
-			return false;
-		return input.length() == 11 && input.charAt(0) == '1';
+		return Validators.MOBILE.isValid(input);
 	}
 
 	/**
@@ -1077,12 +1053,8 @@ public class StringHelper {
 	 */
 	public static boolean isAccountName(String input, int minLength,
 			int maxLength) {
-		if (StringHelper.isEmpty(input))
-			return false;
-		Pattern pattern = Pattern.compile("^[a-zA-Z][a-zA-Z0-9_]{4,15}$");
-		if (false == pattern.matcher(input).matches())
-			return false;
-		return limitedLength(input, minLength, maxLength);
+		return Validators.ACCOUNT_NAME.isValid(input)
+				&& limitedLength(input, minLength, maxLength);
 	}
 
 	/**
@@ -1107,11 +1079,7 @@ public class StringHelper {
 	 * @return
 	 */
 	public static boolean isEmail(String input) {
-		if (StringHelper.isEmpty(input))
-			return false;
-		Pattern pattern = Pattern
-				.compile("^[A-Za-z0-9._%+-]+@(\\w+\\.)+[a-zA-Z]{2,3}");
-		return pattern.matcher(input).matches();
+		return Validators.EMAIL.isValid(input);
 	}
 
 	/**
@@ -1121,11 +1089,7 @@ public class StringHelper {
 	 * @return
 	 */
 	public static boolean isDomainName(String input) {
-		if (StringHelper.isEmpty(input))
-			return false;
-		Pattern pattern = Pattern
-				.compile("[a-zA-Z0-9][-a-zA-Z0-9]{0,62}(\\.[a-zA-Z0-9][-a-zA-Z0-9]{0,62})+");
-		return pattern.matcher(input).matches();
+		return Validators.DOMAIN_NAME.isValid(input);
 	}
 
 	/**
@@ -1137,11 +1101,7 @@ public class StringHelper {
 	 */
 	@Deprecated
 	public static boolean isIP(String input) {
-		if (StringHelper.isEmpty(input))
-			return false;
-		Pattern pattern = Pattern
-				.compile("((25[0-5])|(2[0-4]\\d)|(1\\d\\d)|([1-9]\\d)|\\d)(\\.((25[0-5])|(2[0-4]\\d)|(1\\d\\d)|([1-9]\\d)|\\d)){3}");
-		return pattern.matcher(input).matches();
+		return Validators.IPV4.isValid(input);
 	}
 
 	/**
@@ -1151,11 +1111,18 @@ public class StringHelper {
 	 * @return 如果是的话返回true，否则返回false。
 	 */
 	public static boolean isIPv4(String input) {
-		if (StringHelper.isEmpty(input))
-			return false;
-		Pattern pattern = Pattern.compile("((25[0-5])|(2[0-4]\\d)|(1\\d\\d)|([1-9]\\d)|\\d)(\\.((25[0-5])|(2[0-4]\\d)|(1\\d\\d)|([1-9]\\d)|\\d)){3}");
-		return pattern.matcher(input).matches();
+		return Validators.IPV4.isValid(input);
+	}
 
+	/**
+	 * 判断是否为IPv6的地址
+	 * 
+	 * @param input
+	 * @return 如果是的话返回true，否则返回false。
+	 * @see IpUtil#parseIPv6(CharSequence, long[])
+	 */
+	public static boolean isIPv6(String input) {
+		return Validators.IPV6.isValid(input);
 	}
 
 	/**
@@ -1165,15 +1132,7 @@ public class StringHelper {
 	 * @return
 	 */
 	public static boolean isMultiIPs(String input) {
-		if (isEmpty(input))
-			return false;
-		StringTokenizer st = new StringTokenizer(input, ",");
-		boolean isMultiIPs = true;
-		for (; st.hasMoreTokens() && isMultiIPs;) {
-			String token = st.nextToken();
-			isMultiIPs &= isIP(token);
-		}
-		return isMultiIPs;
+		return Validators.MULTI_IPV4.isValid(input);
 	}
 
 	/**
@@ -1184,11 +1143,7 @@ public class StringHelper {
 	 */
 	// TODO: 该方法需要增加对https的支持。
 	public static boolean isHttpUrl(String input) {
-		if (StringHelper.isEmpty(input))
-			return false;
-		Pattern pattern = Pattern
-				.compile("http://(\\w+(-\\w+)*)(\\.(\\w+(-\\w+)*))*(:\\d{2,4})?(\\/[^#$]+)*");
-		return pattern.matcher(input).matches();
+		return Validators.HTTP_URL.isValid(input);
 	}
 
 	/**
@@ -1199,13 +1154,7 @@ public class StringHelper {
 	 */
 	// TODO:  该方法需要增加对rtmps、rtmpt等的支持。
 	public static boolean isRtmpUrl(String input) {
-		if (StringHelper.isEmpty(input)) {
-			return false;
-		}
-		input = removeLastSlashChar(input);
-		Pattern pattern = Pattern
-				.compile("rtmp://(\\w+(-\\w+)*)(\\.(\\w+(-\\w+)*))*(:\\d{2,4})?(\\/[^#$]+)*");
-		return pattern.matcher(input).matches();
+		return Validators.RTMP_URL.isValid(input);
 	}
 
 	/**
@@ -1217,13 +1166,7 @@ public class StringHelper {
 		if (isEmpty(input)) {
 			return false;
 		}
-		URL url;
-		try {
-			url = new URL(input);
-		} catch (MalformedURLException e) {
-			return false;
-		}
-		return UrlUtil.isFtp(url);
+		return UrlUtil.isFtp(input);
 	}
 
 	/**
@@ -1243,10 +1186,7 @@ public class StringHelper {
 	 * @return
 	 */
 	public static boolean isQQ(String input) {
-		if (StringHelper.isEmpty(input))
-			return false;
-		Pattern pattern = Pattern.compile("^[1-9]\\d{4,8}$");
-		return pattern.matcher(input).matches();
+		return Validators.QQ.isValid(input);
 	}
 
 	/**
@@ -1256,10 +1196,7 @@ public class StringHelper {
 	 * @return
 	 */
 	public static boolean isDate(String input) {
-		if (StringHelper.isEmpty(input))
-			return false;
-		String eL = "^((\\d{2}(([02468][048])|([13579][26]))[\\-\\/\\s]?((((0?[13578])|(1[02]))[\\-\\/\\s]?((0?[1-9])|([1-2][0-9])|(3[01])))|(((0?[469])|(11))[\\-\\/\\s]?((0?[1-9])|([1-2][0-9])|(30)))|(0?2[\\-\\/\\s]?((0?[1-9])|([1-2][0-9])))))|(\\d{2}(([02468][1235679])|([13579][01345789]))[\\-\\/\\s]?((((0?[13578])|(1[02]))[\\-\\/\\s]?((0?[1-9])|([1-2][0-9])|(3[01])))|(((0?[469])|(11))[\\-\\/\\s]?((0?[1-9])|([1-2][0-9])|(30)))|(0?2[\\-\\/\\s]?((0?[1-9])|(1[0-9])|(2[0-8]))))))";
-		return Pattern.compile(eL).matcher(input).matches();
+		return Validators.DATE.isValid(input);
 	}
 
 	/**
@@ -0,0 +1,188 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 字符串的{@link LookupSet}. <BR>
+ * 除了String, 还可以直接查找任意{@link CharSequence}或其中的一段(如StringBuilder、解析时的子串区间),
+ * 不必先转换为String: 哈希值按{@link String#hashCode()}的算法在原字符序列上计算, 再逐字符比较.<br>
+ * 不可变, 可被多个线程共享. 不包含<code>null</code>.
+ * @since zengqingmeng @ Oct 19, 2026 1:05:32 AM
+ *
+ * @see LookupSet
+ */
+public final class StringLookupSet {
+
+	/**
+	 * 顺序比较时的元素; 使用哈希表时为<code>null</code>.
+	 */
+	private final String[] elements;
+
+	private final String[] table;
+
+	private final int[] hashes;
+
+	private final int mask;
+
+	private final int size;
+
+	private StringLookupSet(String[] distinct) {
+		this.size = distinct.length;
+		if (distinct.length <= LookupSet.LINEAR_THRESHOLD) {
+			this.elements = distinct;
+			this.table = null;
+			this.hashes = null;
+			this.mask = 0;
+			return;
+		}
+		int capacity = Integer.highestOneBit(distinct.length * 2 - 1) << 1;
+		this.elements = null;
+		this.table = new String[capacity];
+		this.hashes = new int[capacity];
+		this.mask = capacity - 1;
+		for (String element : distinct) {
+			int hash = element.hashCode();
+			int slot = spread(hash) & mask;
+			while (table[slot] != null) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = element;
+			hashes[slot] = hash;
+		}
+	}
+
+	/**
+	 * @param elements
+	 *            字符串, 重复的只保留一个, <code>null</code>被忽略
+	 */
+	public static StringLookupSet of(String... elements) {
+		AssertUtil.notNull(elements, "elements is null.");
+		return of(Arrays.asList(elements));
+	}
+
+	/**
+	 * @see #of(String...)
+	 */
+	public static StringLookupSet of(Collection<String> elements) {
+		AssertUtil.notNull(elements, "elements is null.");
+		HashSet<String> seen = new HashSet<String>(elements.size() * 4 / 3 + 1);
+		List<String> distinct = new ArrayList<String>(elements.size());
+		for (String element : elements) {
+			if (element != null && seen.add(element)) {
+				distinct.add(element);
+			}
+		}
+		return new StringLookupSet(distinct.toArray(new String[distinct.size()]));
+	}
+
+	private static int spread(int hash) {
+		int h = hash * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * @return 是否包含与<code>cs</code>内容相同的字符串; <code>cs</code>为<code>null</code>时返回<code>false</code>
+	 */
+	public boolean contains(CharSequence cs) {
+		return cs != null && contains(cs, 0, cs.length());
+	}
+
+	/**
+	 * @return 是否包含与<code>cs</code>中[from, to)的内容相同的字符串
+	 */
+	public boolean contains(CharSequence cs, int from, int to) {
+		AssertUtil.notNull(cs, "cs is null.");
+		if (from < 0 || to > cs.length() || from > to) {
+			throw new IndexOutOfBoundsException("from: " + from + ", to: " + to
+					+ ", length: " + cs.length());
+		}
+		if (table == null) {
+			for (String candidate : elements) {
+				if (regionEquals(candidate, cs, from, to)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		int hash;
+		if (from == 0 && to == cs.length() && cs instanceof String) {
+			// String的哈希值已缓存
+			hash = cs.hashCode();
+		} else {
+			hash = 0;
+			for (int i = from; i < to; i++) {
+				hash = 31 * hash + cs.charAt(i);
+			}
+		}
+		int slot = spread(hash) & mask;
+		for (String candidate; (candidate = table[slot]) != null; slot = (slot + 1) & mask) {
+			if (hashes[slot] == hash && regionEquals(candidate, cs, from, to)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean regionEquals(String candidate, CharSequence cs, int from, int to) {
+		int length = to - from;
+		if (candidate.length() != length) {
+			return false;
+		}
+		if (cs instanceof String) {
+			return candidate.regionMatches(0, (String) cs, from, length);
+		}
+		for (int i = 0; i < length; i++) {
+			if (candidate.charAt(i) != cs.charAt(from + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return 在本集合中的字符串, 保持<code>items</code>中的顺序和重复
+	 */
+	public <E extends CharSequence> List<E> filter(Collection<E> items) {
+		return select(items, true);
+	}
+
+	/**
+	 * @return 不在本集合中的字符串, 保持<code>items</code>中的顺序和重复
+	 */
+	public <E extends CharSequence> List<E> exclude(Collection<E> items) {
+		return select(items, false);
+	}
+
+	private <E extends CharSequence> List<E> select(Collection<E> items, boolean contained) {
+		AssertUtil.notNull(items, "items is null.");
+		List<E> result = new ArrayList<E>();
+		for (E item : items) {
+			if (contains(item) == contained) {
+				result.add(item);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return 字符串个数(不重复)
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "StringLookupSet [size=" + size + "]";
+	}
+}
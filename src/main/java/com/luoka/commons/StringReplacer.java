@@ -0,0 +1,307 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 多关键字字符串替换, 不基于正则表达式. <BR>
+ * 编译时由所有关键字构造Aho-Corasick自动机, 替换时只扫描一遍原字符串即找出全部匹配;
+ * 多个匹配重叠时取最左边的, 同一位置开始的取最长的, 替换后的内容不再参与匹配. 确定了所有替换位置后
+ * 先算出结果长度, 再一次性写入.<br>
+ * 编译后的替换器不可变, 可被多个线程共享, 适合模板中数十个占位符的一次性替换.
+ * @since zengqingmeng @ Oct 18, 2026 5:48:20 PM
+ *
+ */
+public final class StringReplacer {
+
+	private static final int[] NO_INT = new int[0];
+
+	private static final char[] NO_CHAR = new char[0];
+
+	/**
+	 * 每个状态的出边字符(升序)及对应的目标状态.
+	 */
+	private final char[][] labels;
+
+	private final int[][] targets;
+
+	/**
+	 * 失败转移.
+	 */
+	private final int[] fail;
+
+	/**
+	 * 状态本身对应的关键字下标, 不是关键字时为-1.
+	 */
+	private final int[] output;
+
+	/**
+	 * 沿失败链最近的、对应某个关键字的状态, 没有时为-1.
+	 */
+	private final int[] dictLink;
+
+	private final String[] keys;
+
+	private final String[] replacements;
+
+	private StringReplacer(String[] keys, String[] replacements) {
+		this.keys = keys;
+		this.replacements = replacements;
+		List<char[]> labelList = new ArrayList<char[]>();
+		List<int[]> targetList = new ArrayList<int[]>();
+		List<Integer> outputList = new ArrayList<Integer>();
+		labelList.add(NO_CHAR);
+		targetList.add(NO_INT);
+		outputList.add(-1);
+		for (int k = 0; k < keys.length; k++) {
+			int state = 0;
+			for (int i = 0; i < keys[k].length(); i++) {
+				char ch = keys[k].charAt(i);
+				char[] stateLabels = labelList.get(state);
+				int index = Arrays.binarySearch(stateLabels, ch);
+				if (index >= 0) {
+					state = targetList.get(state)[index];
+					continue;
+				}
+				int next = labelList.size();
+				labelList.add(NO_CHAR);
+				targetList.add(NO_INT);
+				outputList.add(-1);
+				index = -index - 1;
+				labelList.set(state, insert(stateLabels, index, ch));
+				targetList.set(state, insert(targetList.get(state), index, next));
+				state = next;
+			}
+			outputList.set(state, k);
+		}
+		final int size = labelList.size();
+		this.labels = labelList.toArray(new char[size][]);
+		this.targets = targetList.toArray(new int[size][]);
+		this.output = new int[size];
+		for (int i = 0; i < size; i++) {
+			output[i] = outputList.get(i);
+		}
+		this.fail = new int[size];
+		this.dictLink = new int[size];
+		dictLink[0] = -1;
+		// 按广度优先计算失败转移, 保证处理某状态时其失败目标已经算好
+		int[] queue = new int[size];
+		int head = 0;
+		int tail = 0;
+		for (int child : targets[0]) {
+			fail[child] = 0;
+			dictLink[child] = -1;
+			queue[tail++] = child;
+		}
+		while (head < tail) {
+			int state = queue[head++];
+			for (int i = 0; i < labels[state].length; i++) {
+				int child = targets[state][i];
+				fail[child] = step(fail[state], labels[state][i]);
+				int f = fail[child];
+				dictLink[child] = (output[f] >= 0) ? f : dictLink[f];
+				queue[tail++] = child;
+			}
+		}
+	}
+
+	/**
+	 * 编译替换规则.
+	 *
+	 * @param replacements
+	 *            关键字到替换内容的映射; 关键字不允许为<code>null</code>或空串, 替换内容不允许为<code>null</code>
+	 * @throws IllegalArgumentException
+	 *             映射中含有不合法的关键字或替换内容.
+	 */
+	public static StringReplacer compile(Map<String, String> replacements) {
+		AssertUtil.notNull(replacements, "replacements is null.");
+		String[] keys = new String[replacements.size()];
+		String[] values = new String[keys.length];
+		int i = 0;
+		for (Map.Entry<String, String> entry : replacements.entrySet()) {
+			if (entry.getKey() == null || entry.getKey().length() == 0) {
+				throw new IllegalArgumentException("Illegal key: " + entry.getKey()
+						+ "! It must be a non-empty string.");
+			}
+			AssertUtil.notNull(entry.getValue(), "replacement of " + entry.getKey() + " is null.");
+			keys[i] = entry.getKey();
+			values[i++] = entry.getValue();
+		}
+		return new StringReplacer(keys, values);
+	}
+
+	/**
+	 * 以交替排列的关键字和替换内容编译替换规则, 如<code>compile("&lt;", "&amp;lt;", "&gt;", "&amp;gt;")</code>.
+	 *
+	 * @see #compile(Map)
+	 */
+	public static StringReplacer compile(String... keyAndReplacements) {
+		if (keyAndReplacements.length % 2 != 0) {
+			throw new IllegalArgumentException("Illegal length of keyAndReplacements: "
+					+ keyAndReplacements.length + "! It must be even.");
+		}
+		Map<String, String> map = new LinkedHashMap<String, String>();
+		for (int i = 0; i < keyAndReplacements.length; i += 2) {
+			map.put(keyAndReplacements[i], keyAndReplacements[i + 1]);
+		}
+		return compile(map);
+	}
+
+	/**
+	 * 替换给定字符串中的所有关键字.
+	 *
+	 * @return 替换后的字符串; 没有任何关键字时返回原字符串, 原字符串为<code>null</code>时返回<code>null</code>
+	 */
+	public String replace(String origin) {
+		if (origin == null) {
+			return null;
+		}
+		int[] matches = findMatches(origin);
+		if (matches.length == 0 || matches[0] < 0) {
+			return origin;
+		}
+		int length = origin.length();
+		for (int i = 0; i < matches.length && matches[i] >= 0; i += 2) {
+			length += replacements[matches[i + 1]].length() - keys[matches[i + 1]].length();
+		}
+		char[] result = new char[length];
+		int from = 0;
+		int pos = 0;
+		for (int i = 0; i < matches.length && matches[i] >= 0; i += 2) {
+			int start = matches[i];
+			origin.getChars(from, start, result, pos);
+			pos += start - from;
+			String replacement = replacements[matches[i + 1]];
+			replacement.getChars(0, replacement.length(), result, pos);
+			pos += replacement.length();
+			from = start + keys[matches[i + 1]].length();
+		}
+		origin.getChars(from, origin.length(), result, pos);
+		return new String(result);
+	}
+
+	/**
+	 * 替换后追加到给定的StringBuilder中.
+	 *
+	 * @return 参数<code>sb</code>
+	 */
+	public StringBuilder replace(CharSequence origin, StringBuilder sb) {
+		int[] matches = findMatches(origin);
+		int from = 0;
+		for (int i = 0; i < matches.length && matches[i] >= 0; i += 2) {
+			sb.append(origin, from, matches[i]).append(replacements[matches[i + 1]]);
+			from = matches[i] + keys[matches[i + 1]].length();
+		}
+		return sb.append(origin, from, origin.length());
+	}
+
+	/**
+	 * @return 关键字个数
+	 */
+	public int size() {
+		return keys.length;
+	}
+
+	/**
+	 * 找出所有要替换的位置.
+	 *
+	 * @return 依次排列的(起始位置, 关键字下标), 有效部分之后以-1结束(若数组有剩余)
+	 */
+	private int[] findMatches(CharSequence text) {
+		final int length = text.length();
+		// longest[i]为从i开始的最长关键字下标+1, 首次匹配时才分配
+		int[] longest = null;
+		int firstStart = length;
+		int state = 0;
+		for (int i = 0; i < length; i++) {
+			state = step(state, text.charAt(i));
+			for (int s = (output[state] >= 0) ? state : dictLink[state]; s >= 0; s = dictLink[s]) {
+				int key = output[s];
+				int start = i + 1 - keys[key].length();
+				if (longest == null) {
+					longest = new int[length];
+				}
+				if (longest[start] == 0 || keys[longest[start] - 1].length() < keys[key].length()) {
+					longest[start] = key + 1;
+				}
+				firstStart = Math.min(firstStart, start);
+			}
+		}
+		if (longest == null) {
+			return NO_INT;
+		}
+		int[] matches = new int[16];
+		int count = 0;
+		for (int i = firstStart; i < length;) {
+			if (longest[i] == 0) {
+				i++;
+				continue;
+			}
+			if (count + 2 > matches.length) {
+				matches = Arrays.copyOf(matches, matches.length << 1);
+			}
+			matches[count++] = i;
+			matches[count++] = longest[i] - 1;
+			i += keys[longest[i] - 1].length();
+		}
+		if (count < matches.length) {
+			matches[count] = -1;
+		}
+		return matches;
+	}
+
+	private int step(int state, char ch) {
+		while (true) {
+			char[] stateLabels = labels[state];
+			int index = (stateLabels.length <= 8) ? linearSearch(stateLabels, ch)
+					: Arrays.binarySearch(stateLabels, ch);
+			if (index >= 0) {
+				return targets[state][index];
+			}
+			if (state == 0) {
+				return 0;
+			}
+			state = fail[state];
+		}
+	}
+
+	private static int linearSearch(char[] array, char ch) {
+		for (int i = 0; i < array.length; i++) {
+			if (array[i] == ch) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static char[] insert(char[] array, int index, char value) {
+		char[] result = new char[array.length + 1];
+		System.arraycopy(array, 0, result, 0, index);
+		result[index] = value;
+		System.arraycopy(array, index, result, index + 1, array.length - index);
+		return result;
+	}
+
+	private static int[] insert(int[] array, int index, int value) {
+		int[] result = new int[array.length + 1];
+		System.arraycopy(array, 0, result, 0, index);
+		result[index] = value;
+		System.arraycopy(array, index, result, index + 1, array.length - index);
+		return result;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "StringReplacer [keys=" + Arrays.toString(keys) + ", states="
+				+ labels.length + "]";
+	}
+}
@@ -0,0 +1,312 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.LongBuffer;
+import java.text.ParsePosition;
+import java.util.Date;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 成列的时间戳批量格式化与解析, 用于报表导出、CSV导入等一次处理大量时间戳的场景. <BR>
+ * 格式化时所有结果写入同一个字符缓冲区, 每个值之后跟一个分隔符; 相邻时间戳落在同一秒(格式不含毫秒时)
+ * 直接复制上一个结果, 落在同一天则复用年月日的计算. 解析时与上一个文本相同则直接复用结果.<br>
+ * 对定长格式的大数组可用ForkJoin并行处理: 每个值在输出中的位置是固定的, 各分段互不干扰.
+ * @since zengqingmeng @ Oct 18, 2026 4:26:51 PM
+ *
+ */
+public final class TimestampColumns {
+
+	/**
+	 * 数组长度达到该值时, 并行处理才有意义.
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 15;
+
+	/**
+	 * 并行时每个任务处理的最少元素个数.
+	 */
+	private static final int SEGMENT_SIZE = 1 << 13;
+
+	/**
+	 * 格式化结果保证定长(4位年份)的时间范围, 两端各留一天以容纳时区偏移: 1000-01-02至9999-12-31.
+	 */
+	private static final long MIN_FIXED_MILLIS = -30610137600000L;
+	private static final long MAX_FIXED_MILLIS = 253402214400000L;
+
+	/**
+	 * 写入Writer时每次缓冲的值的个数.
+	 */
+	private static final int CHUNK = 1024;
+
+	private TimestampColumns() {
+	}
+
+	/**
+	 * 格式化整个数组.
+	 *
+	 * @param formatter
+	 *            格式
+	 * @param millis
+	 *            毫秒时间数组
+	 * @param separator
+	 *            每个值之后的分隔符, 如'\n'
+	 * @param parallel
+	 *            数组足够大时是否并行处理
+	 * @return 所有结果(含分隔符)依次排列的字符数组
+	 */
+	public static char[] format(DateFormatter formatter, long[] millis,
+			char separator, boolean parallel) {
+		AssertUtil.notNull(formatter, "formatter is null.");
+		AssertUtil.notNull(millis, "millis is null.");
+		if (!isFixedWidth(formatter, millis, 0, millis.length)) {
+			StringBuilder sb = new StringBuilder(millis.length * (formatter.length() + 2));
+			for (int i = 0; i < millis.length; i++) {
+				formatter.format(millis[i], sb).append(separator);
+			}
+			char[] out = new char[sb.length()];
+			sb.getChars(0, out.length, out, 0);
+			return out;
+		}
+		char[] out = new char[millis.length * (formatter.length() + 1)];
+		if (parallel && millis.length >= PARALLEL_THRESHOLD) {
+			ForkJoinPool.commonPool().invoke(
+					new FormatTask(formatter, millis, 0, millis.length, separator, out));
+		} else {
+			formatRange(formatter, millis, 0, millis.length, separator, out,
+					0);
+		}
+		return out;
+	}
+
+	/**
+	 * 格式化数组的一部分, 写入给定的字符数组.
+	 *
+	 * @param out
+	 *            输出的字符数组, 从<code>offset</code>开始至少要有
+	 *            <code>(to - from) * (formatter.length() + 1)</code>个位置(年份不超过4位时)
+	 * @return 写入结束后的下一个位置
+	 */
+	public static int format(DateFormatter formatter, long[] millis, int from,
+			int to, char separator, char[] out, int offset) {
+		AssertUtil.notNull(formatter, "formatter is null.");
+		if (!isFixedWidth(formatter, millis, from, to)) {
+			int pos = offset;
+			for (int i = from; i < to; i++) {
+				pos = formatter.format(millis[i], out, pos);
+				out[pos++] = separator;
+			}
+			return pos;
+		}
+		return formatRange(formatter, millis, from, to, separator, out, offset);
+	}
+
+	/**
+	 * 格式化LongBuffer中剩余的所有值, 分块写入Writer. 处理完后buffer的position移到limit.
+	 *
+	 * @throws IOException
+	 *             写入失败时.
+	 */
+	public static void format(DateFormatter formatter, LongBuffer millis,
+			char separator, Writer out) throws IOException {
+		AssertUtil.notNull(formatter, "formatter is null.");
+		long[] chunk = new long[Math.min(CHUNK, millis.remaining())];
+		// 年份超过4位时每个值最多再多出15个字符
+		char[] buf = new char[chunk.length * (formatter.length() + 16)];
+		while (millis.hasRemaining()) {
+			int count = Math.min(chunk.length, millis.remaining());
+			millis.get(chunk, 0, count);
+			int end = format(formatter, chunk, 0, count, separator, buf, 0);
+			out.write(buf, 0, end);
+		}
+	}
+
+	/**
+	 * 解析一列时间字符串. 先按格式严格解析, 不符合时再用SimpleDateFormat宽松解析, 均不抛出异常.
+	 *
+	 * @param formatter
+	 *            格式
+	 * @param texts
+	 *            时间字符串
+	 * @param defaultValue
+	 *            不能解析(含<code>null</code>)时的值
+	 * @param parallel
+	 *            数组足够大时是否并行处理
+	 * @return 与<code>texts</code>一一对应的毫秒时间
+	 */
+	public static long[] parse(DateFormatter formatter, CharSequence[] texts,
+			long defaultValue, boolean parallel) {
+		AssertUtil.notNull(formatter, "formatter is null.");
+		AssertUtil.notNull(texts, "texts is null.");
+		long[] result = new long[texts.length];
+		if (parallel && texts.length >= PARALLEL_THRESHOLD) {
+			ForkJoinPool.commonPool().invoke(
+					new ParseTask(formatter, texts, 0, texts.length, defaultValue, result));
+		} else {
+			parseRange(formatter, texts, 0, texts.length, defaultValue, result);
+		}
+		return result;
+	}
+
+	private static boolean isFixedWidth(DateFormatter formatter, long[] millis,
+			int from, int to) {
+		if (!formatter.isParsable()) {
+			return false;
+		}
+		for (int i = from; i < to; i++) {
+			if (millis[i] < MIN_FIXED_MILLIS || millis[i] > MAX_FIXED_MILLIS) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 顺序格式化一段定长的值, 同一秒的值直接复制, 同一天的值复用年月日.
+	 */
+	static int formatRange(DateFormatter formatter, long[] millis, int from,
+			int to, char separator, char[] out, int offset) {
+		final ZonedCalendar calendar = formatter.getCalendar();
+		final boolean reuseSecond = !formatter.hasMillisField();
+		long prevSecond = Long.MIN_VALUE;
+		long prevDay = Long.MIN_VALUE;
+		long ymd = 0;
+		int prevStart = 0;
+		int prevLength = 0;
+		int pos = offset;
+		for (int i = from; i < to; i++) {
+			// 时区偏移总是在整秒变化, 因此UTC的同一秒也是本地的同一秒
+			long second = Math.floorDiv(millis[i], 1000L);
+			if (reuseSecond && second == prevSecond) {
+				System.arraycopy(out, prevStart, out, pos, prevLength);
+				pos += prevLength;
+			} else {
+				long local = calendar.toLocal(millis[i]);
+				long day = Math.floorDiv(local, ZonedCalendar.MILLIS_PER_DAY);
+				if (day != prevDay) {
+					ymd = ZonedCalendar.toPackedDate(day);
+					prevDay = day;
+				}
+				prevStart = pos;
+				pos = formatter.formatLocal(ymd,
+						(int) (local - day * ZonedCalendar.MILLIS_PER_DAY), out, pos);
+				prevLength = pos - prevStart;
+				prevSecond = second;
+			}
+			out[pos++] = separator;
+		}
+		return pos;
+	}
+
+	static void parseRange(DateFormatter formatter, CharSequence[] texts,
+			int from, int to, long defaultValue, long[] result) {
+		DateFormatCache.CompiledFormat lenient = null;
+		CharSequence prev = null;
+		long prevValue = defaultValue;
+		for (int i = from; i < to; i++) {
+			CharSequence text = texts[i];
+			if (text == null) {
+				result[i] = defaultValue;
+				continue;
+			}
+			if (prev != null && contentEquals(prev, text)) {
+				result[i] = prevValue;
+				continue;
+			}
+			long value = formatter.parseMillis(text, Long.MIN_VALUE);
+			if (value == Long.MIN_VALUE) {
+				if (lenient == null) {
+					lenient = DateFormatCache.getInstance().get(
+							formatter.getPattern(), null, formatter.getTimeZone());
+				}
+				Date date = lenient.parse(text.toString(), new ParsePosition(0));
+				value = (date == null) ? defaultValue : date.getTime();
+			}
+			result[i] = value;
+			prev = text;
+			prevValue = value;
+		}
+	}
+
+	private static boolean contentEquals(CharSequence one, CharSequence another) {
+		if (one == another) {
+			return true;
+		}
+		final int length = one.length();
+		if (length != another.length()) {
+			return false;
+		}
+		for (int i = length - 1; i >= 0; i--) {
+			if (one.charAt(i) != another.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static final class FormatTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final DateFormatter formatter;
+		private final long[] millis;
+		private final int from;
+		private final int to;
+		private final char separator;
+		private final char[] out;
+
+		FormatTask(DateFormatter formatter, long[] millis, int from, int to,
+				char separator, char[] out) {
+			this.formatter = formatter;
+			this.millis = millis;
+			this.from = from;
+			this.to = to;
+			this.separator = separator;
+			this.out = out;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= SEGMENT_SIZE) {
+				formatRange(formatter, millis, from, to, separator, out, from
+						* (formatter.length() + 1));
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new FormatTask(formatter, millis, from, middle, separator, out),
+					new FormatTask(formatter, millis, middle, to, separator, out));
+		}
+	}
+
+	private static final class ParseTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final DateFormatter formatter;
+		private final CharSequence[] texts;
+		private final int from;
+		private final int to;
+		private final long defaultValue;
+		private final long[] result;
+
+		ParseTask(DateFormatter formatter, CharSequence[] texts, int from,
+				int to, long defaultValue, long[] result) {
+			this.formatter = formatter;
+			this.texts = texts;
+			this.from = from;
+			this.to = to;
+			this.defaultValue = defaultValue;
+			this.result = result;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= SEGMENT_SIZE) {
+				parseRange(formatter, texts, from, to, defaultValue, result);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new ParseTask(formatter, texts, from, middle, defaultValue, result),
+					new ParseTask(formatter, texts, middle, to, defaultValue, result));
+		}
+	}
+}
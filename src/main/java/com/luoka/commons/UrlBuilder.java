@@ -0,0 +1,303 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.Arrays;
+
+/**
+ * 可修改的URL查询参数. <BR>
+ * 解析时只扫描一遍URL, 记录每个参数的名称和值在原URL中的位置, 不复制任何字符; 之后对参数的增删改都在这份索引上进行,
+ * 最后由{@link #toString()}一次性生成新的URL. 未修改的参数原样输出, 新增或修改的参数在生成时按{@link PercentCodec#FORM}直接编码到结果中.<br>
+ * 参数名精确匹配(区分大小写), 不会把"xid"误认为"id". 非线程安全.
+ * @since zengqingmeng @ Oct 18, 2026 8:47:19 PM
+ *
+ * @see UrlUtil#addOrReplaceParam(String, String, Object)
+ */
+public final class UrlBuilder {
+
+	/**
+	 * 每个参数在{@link #spans}中占用的位置个数.
+	 */
+	private static final int SPAN = 4;
+
+	private final String source;
+
+	/**
+	 * '?'之前的部分在原URL中的结束位置.
+	 */
+	private final int baseEnd;
+
+	private String fragment;
+
+	private int count;
+
+	/**
+	 * 原有参数的名称起止、值起止位置; 没有'='时值的起止均为-1.
+	 */
+	private int[] spans;
+
+	/**
+	 * 新增或修改过的参数的名称和值(未编码); 原样输出的参数为<code>null</code>.
+	 */
+	private String[] names;
+
+	private String[] values;
+
+	private UrlBuilder(String url) {
+		this.source = url;
+		int hash = url.indexOf('#');
+		int end = (hash < 0) ? url.length() : hash;
+		this.fragment = (hash < 0) ? null : url.substring(hash + 1);
+		int question = url.indexOf('?');
+		if (question < 0 || question > end) {
+			question = end;
+		}
+		this.baseEnd = question;
+		int capacity = 4;
+		for (int i = question; i < end; i++) {
+			if (url.charAt(i) == '&') {
+				capacity++;
+			}
+		}
+		this.spans = new int[capacity * SPAN];
+		this.names = new String[capacity];
+		this.values = new String[capacity];
+		int start = question + 1;
+		while (start < end) {
+			int amp = url.indexOf('&', start);
+			if (amp < 0 || amp > end) {
+				amp = end;
+			}
+			if (amp > start) {
+				int equals = url.indexOf('=', start);
+				int offset = count * SPAN;
+				spans[offset] = start;
+				if (equals < 0 || equals > amp) {
+					spans[offset + 1] = amp;
+					spans[offset + 2] = -1;
+					spans[offset + 3] = -1;
+				} else {
+					spans[offset + 1] = equals;
+					spans[offset + 2] = equals + 1;
+					spans[offset + 3] = amp;
+				}
+				count++;
+			}
+			start = amp + 1;
+		}
+	}
+
+	/**
+	 * 解析URL.
+	 *
+	 * @param url
+	 *            URL, 也可以只是一个路径或空串
+	 */
+	public static UrlBuilder parse(String url) {
+		AssertUtil.notNull(url, "url is null.");
+		return new UrlBuilder(url);
+	}
+
+	/**
+	 * 在末尾追加一个参数, 不论是否已有同名参数.
+	 *
+	 * @param value
+	 *            参数值, 以<code>String.valueOf(value)</code>输出
+	 * @return this
+	 */
+	public UrlBuilder add(String name, Object value) {
+		AssertUtil.notNull(name, "name is null.");
+		ensureCapacity(count + 1);
+		int offset = count * SPAN;
+		Arrays.fill(spans, offset, offset + SPAN, -1);
+		names[count] = name;
+		values[count] = String.valueOf(value);
+		count++;
+		return this;
+	}
+
+	/**
+	 * 设置参数的值: 替换第一个同名参数(位置不变)并删除其余同名参数; 没有同名参数时追加到末尾.
+	 *
+	 * @return this
+	 */
+	public UrlBuilder set(String name, Object value) {
+		AssertUtil.notNull(name, "name is null.");
+		int index = indexOf(name, 0);
+		if (index < 0) {
+			return add(name, value);
+		}
+		names[index] = name;
+		values[index] = String.valueOf(value);
+		removeFrom(name, index + 1);
+		return this;
+	}
+
+	/**
+	 * 删除所有同名参数.
+	 *
+	 * @return this
+	 */
+	public UrlBuilder remove(String name) {
+		AssertUtil.notNull(name, "name is null.");
+		removeFrom(name, 0);
+		return this;
+	}
+
+	/**
+	 * @return 第一个同名参数解码后的值; 没有'='时为空串, 不存在时为<code>null</code>
+	 */
+	public String get(String name) {
+		int index = indexOf(name, 0);
+		return (index < 0) ? null : getValue(index);
+	}
+
+	/**
+	 * @return 是否有同名参数
+	 */
+	public boolean contains(String name) {
+		return indexOf(name, 0) >= 0;
+	}
+
+	/**
+	 * @return 参数个数
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * @return 第<code>index</code>个参数解码后的名称
+	 */
+	public String getName(int index) {
+		checkIndex(index);
+		if (names[index] != null) {
+			return names[index];
+		}
+		int offset = index * SPAN;
+		return decode(spans[offset], spans[offset + 1]);
+	}
+
+	/**
+	 * @return 第<code>index</code>个参数解码后的值; 没有'='时为空串
+	 */
+	public String getValue(int index) {
+		checkIndex(index);
+		if (names[index] != null) {
+			return values[index];
+		}
+		int offset = index * SPAN;
+		return (spans[offset + 2] < 0) ? StringHelper.EMPTY : decode(
+				spans[offset + 2], spans[offset + 3]);
+	}
+
+	/**
+	 * @return '#'之后的部分, 没有时为<code>null</code>
+	 */
+	public String getFragment() {
+		return fragment;
+	}
+
+	/**
+	 * @param fragment
+	 *            '#'之后的部分(原样输出), <code>null</code>表示去掉
+	 * @return this
+	 */
+	public UrlBuilder setFragment(String fragment) {
+		this.fragment = fragment;
+		return this;
+	}
+
+	/**
+	 * 生成URL.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(source.length() + 16 * (count + 1));
+		sb.append(source, 0, baseEnd);
+		for (int i = 0; i < count; i++) {
+			sb.append((i == 0) ? '?' : '&');
+			if (names[i] != null) {
+				PercentCodec.FORM.encode(names[i], 0, names[i].length(), sb).append('=');
+				PercentCodec.FORM.encode(values[i], 0, values[i].length(), sb);
+			} else {
+				int offset = i * SPAN;
+				int end = (spans[offset + 3] < 0) ? spans[offset + 1] : spans[offset + 3];
+				sb.append(source, spans[offset], end);
+			}
+		}
+		if (fragment != null) {
+			sb.append('#').append(fragment);
+		}
+		return sb.toString();
+	}
+
+	private int indexOf(String name, int from) {
+		for (int i = from; i < count; i++) {
+			if (nameEquals(i, name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private boolean nameEquals(int index, String name) {
+		if (names[index] != null) {
+			return names[index].equals(name);
+		}
+		int start = spans[index * SPAN];
+		int end = spans[index * SPAN + 1];
+		for (int i = start; i < end; i++) {
+			char ch = source.charAt(i);
+			if (ch == '%' || ch == '+') {
+				return decode(start, end).equals(name);
+			}
+		}
+		return end - start == name.length()
+				&& source.regionMatches(start, name, 0, name.length());
+	}
+
+	private void removeFrom(String name, int from) {
+		int kept = from;
+		for (int i = from; i < count; i++) {
+			if (nameEquals(i, name)) {
+				continue;
+			}
+			if (kept != i) {
+				System.arraycopy(spans, i * SPAN, spans, kept * SPAN, SPAN);
+				names[kept] = names[i];
+				values[kept] = values[i];
+			}
+			kept++;
+		}
+		Arrays.fill(names, kept, count, null);
+		Arrays.fill(values, kept, count, null);
+		count = kept;
+	}
+
+	private String decode(int start, int end) {
+		try {
+			return PercentCodec.FORM.decode(source, start, end,
+					new StringBuilder(end - start)).toString();
+		} catch (IllegalArgumentException e) {
+			// 不合法的%转义, 原样返回
+			return source.substring(start, end);
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > names.length) {
+			int newLength = Math.max(capacity, names.length << 1);
+			spans = Arrays.copyOf(spans, newLength * SPAN);
+			names = Arrays.copyOf(names, newLength);
+			values = Arrays.copyOf(values, newLength);
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= count) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+		}
+	}
+}
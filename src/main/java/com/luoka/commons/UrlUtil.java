@@ -15,29 +15,60 @@ import java.net.URLEncoder;
  */
 public class UrlUtil {
 	/**
-	 * 根据指定的url获取各级别域名
+	 * 根据指定的url获取各级别域名, 如("www.luoka.com", 2)返回".luoka.com". <br>
+	 * 只按标签个数截取, 不考虑".com.cn"这样的多级公共后缀; 需要可注册域名时使用{@link #getRegistrableDomain(String)}.
 	 * 
-	 * @param url
+	 * @param serverName
+	 *            主机名
 	 * @param tldLevel
-	 * @return
+	 *            从右往左保留的标签个数
+	 * @return 以'.'开头的域名; 标签个数不大于tldLevel时返回serverName本身; 不含'.'或是IP地址时返回空串
 	 */
 	public static String getDomainByLevel(String serverName, int tldLevel) {
-		if (StringHelper.isEmpty(serverName) || serverName.indexOf(".") < 0)
+		if (StringHelper.isEmpty(serverName) || serverName.indexOf('.') < 0)
+			return "";
+		// 忽略末尾的'.'(与split的结果一致)
+		int end = serverName.length();
+		while (end > 0 && serverName.charAt(end - 1) == '.') {
+			end--;
+		}
+		if (end == 0) {
+			return (tldLevel >= 0) ? serverName : "";
+		}
+		int lastDot = serverName.lastIndexOf('.', end - 1);
+		boolean numeric = true;
+		for (int i = lastDot + 1; i < end && numeric; i++) {
+			char ch = serverName.charAt(i);
+			numeric = ch >= '0' && ch <= '9';
+		}
+		if (numeric)
 			return "";
-		StringBuffer sb = new StringBuffer(20);
-		String[] arr = serverName.split("\\.");
-		int length = arr.length;
-		if (length > 0 && arr[length - 1].matches("\\b\\d+\\b"))
+		if (tldLevel <= 0) {
 			return "";
-		if (tldLevel >= length) {
-			sb.append(serverName);
-		} else {
-			for (int j = 0; j < tldLevel; j++) {
-				sb.append(".");
-				sb.append(arr[j + length - tldLevel]);
+		}
+		int start = end;
+		for (int level = 0; level < tldLevel; level++) {
+			if (start <= 0) {
+				return serverName;
 			}
+			start = serverName.lastIndexOf('.', start - 1);
 		}
-		return sb.toString();
+		if (start < 0) {
+			return serverName;
+		}
+		return serverName.substring(start, end);
+	}
+
+	/**
+	 * 按公共后缀列表求主机名的可注册域名, 如"www.luoka.com.cn"返回"luoka.com.cn". 可用于计算Cookie的域、按站点限流等.
+	 * 
+	 * @param host
+	 *            主机名
+	 * @return 可注册域名; 主机名本身是公共后缀、是IP地址或为空时返回<code>null</code>
+	 * @see PublicSuffixes#getDefault()
+	 */
+	public static String getRegistrableDomain(String host) {
+		return PublicSuffixes.getDefault().getRegistrableDomain(host);
 	}
 
 	/**
@@ -70,25 +101,26 @@ public class UrlUtil {
 		if (url == null || paramName == null) {
 			return url;
 		}
-		String target = paramName + '=';
 		int startPos = getParamStartPos(url, paramName);
 		if (startPos == -1) {
 			return url;
 		}
-		char ch = url.charAt(startPos - 1);
-		if (ch != '?' && ch != '&') {
-			return url;
-		}
+		return replaceParamValue(url, paramName, value, startPos);
+	}
 
+	private static String replaceParamValue(String url, String paramName,
+			Object value, int startPos) {
 		int endPos = url.indexOf('&', startPos);
 		if (endPos == -1) {
 			String remain = url.substring(0, startPos - 1);
 			return addParam(remain, paramName, value);
 		}
 
-		String partStart = url.substring(0, startPos);
-		String partEnd = url.substring(endPos);
-		return partStart + target + value + partEnd;
+		String valueStr = String.valueOf(value);
+		StringBuilder sb = new StringBuilder(url.length() + valueStr.length());
+		sb.append(url, 0, startPos).append(paramName).append('=');
+		sb.append(valueStr).append(url, endPos, url.length());
+		return sb.toString();
 	}
 
 	/**
@@ -100,18 +132,24 @@ public class UrlUtil {
 		return getParamStartPos(url, paramName) != -1;
 	}
 
+	/**
+	 * 查找"paramName="作为完整参数名(前面是'?'或'&')出现的位置; 跳过作为其他参数名后缀出现的位置,
+	 * 如在"?xid=1&id=2"中查找id.
+	 */
 	static int getParamStartPos(String url, String paramName) {
-		String target = paramName + '=';
-		int startPos = url.indexOf(target);
-		if (startPos < 1) {
-			return -1;
-		}
-		char ch = url.charAt(startPos - 1);
-		if (ch != '?' && ch != '&') {
-			return -1;
+		final int nameLength = paramName.length();
+		for (int startPos = url.indexOf(paramName); startPos >= 0; startPos = url
+				.indexOf(paramName, startPos + 1)) {
+			if (startPos < 1 || startPos + nameLength >= url.length()
+					|| url.charAt(startPos + nameLength) != '=') {
+				continue;
+			}
+			char ch = url.charAt(startPos - 1);
+			if (ch == '?' || ch == '&') {
+				return startPos;
+			}
 		}
-
-		return startPos;
+		return -1;
 	}
 
 	/**
@@ -123,32 +161,40 @@ public class UrlUtil {
 	 */
 	public static String addOrReplaceParam(String url, String paramName,
 			Object value) {
-		if (paramExists(url, paramName)) {
-			return replaceParamValue(url, paramName, value);
+		if (url == null || paramName == null) {
+			return url;
 		}
-
-		return addParam(url, paramName, value);
+		int startPos = getParamStartPos(url, paramName);
+		if (startPos == -1) {
+			return addParam(url, paramName, value);
+		}
+		return replaceParamValue(url, paramName, value, startPos);
 	}
 
 	private UrlUtil() {
 	}
 
 	/**
-	 * 对给定的字符串进行UTF-8方式的URL编码.
+	 * 对给定的字符串进行UTF-8方式的URL编码, 结果与{@link URLEncoder}一致; 不需要编码时返回原字符串.
 	 * 
-	 * @see #encode(String, String)
+	 * @see PercentCodec#FORM
 	 */
 	public static String encode(String str) {
-		return encode(str, "UTF-8");
+		return PercentCodec.FORM.encode(str);
 	}
 
 	/**
-	 * 对给定的字符串进行UTF-8方式的URL解码.
+	 * 对给定的字符串进行UTF-8方式的URL解码; 不需要解码时返回原字符串.
+	 * 与{@link URLDecoder}不同, '%'之后必须是两个十六进制字符(不接受"%+e"等带符号的转义), 否则抛出IllegalArgumentException.
 	 * 
-	 * @see #decode(String, String)
+	 * @see PercentCodec#FORM
 	 */
 	public static String decode(String str) {
-		return decode(str, "UTF-8");
+		return PercentCodec.FORM.decode(str);
+	}
+
+	private static boolean isUtf8(String encoding) {
+		return "UTF-8".equalsIgnoreCase(encoding) || "UTF8".equalsIgnoreCase(encoding);
 	}
 
 	/**
@@ -160,6 +206,9 @@ public class UrlUtil {
 	 *            编码方式
 	 */
 	public static String encode(String str, String encoding) {
+		if (isUtf8(encoding)) {
+			return encode(str);
+		}
 		try {
 			return URLEncoder.encode(str, encoding);
 		} catch (UnsupportedEncodingException e) {
@@ -176,6 +225,9 @@ public class UrlUtil {
 	 *            编码方式
 	 */
 	public static String decode(String str, String encoding) {
+		if (isUtf8(encoding)) {
+			return decode(str);
+		}
 		try {
 			return URLDecoder.decode(str, encoding);
 		} catch (UnsupportedEncodingException e) {
@@ -192,6 +244,19 @@ public class UrlUtil {
 	}
 
 	/**
+	 * @param url
+	 * @return 协议是否为ftp; url不合法时返回<code>false</code>
+	 * @see ParsedUrl
+	 */
+	public static boolean isFtp(String url) {
+		ParsedUrl parsed = ParsedUrl.parse(url);
+		return parsed != null && parsed.isScheme("ftp");
+	}
+
+	/**
+	 * 按{@link URL#getAuthority()}取主机. 与{@link #getHost(String)}不同: 没有用户信息时端口会保留(如"www.a.com:8080"),
+	 * 没有主机时返回空串.
+	 * 
 	 * @param url
 	 * @return
 	 */
@@ -209,6 +274,15 @@ public class UrlUtil {
 		return hostAndPort.substring(0, posOfColon);
 	}
 
+	/**
+	 * @param url
+	 * @return 主机, 不含用户信息和端口; url不合法或没有主机时返回<code>null</code>
+	 */
+	public static String getHost(String url) {
+		ParsedUrl parsed = ParsedUrl.parse(url);
+		return (parsed == null) ? null : parsed.getHost();
+	}
+
 	/**
 	 * @param url
 	 * @return
@@ -218,6 +292,22 @@ public class UrlUtil {
 	}
 
 	/**
+	 * @param url
+	 * @return 端口, 没有指定时为协议的默认端口; url不合法或协议没有默认端口时返回-1
+	 * @see ParsedUrl#getDefaultPort()
+	 */
+	public static int getPort(String url) {
+		ParsedUrl parsed = ParsedUrl.parse(url);
+		if (parsed == null) {
+			return -1;
+		}
+		int port = parsed.getPort();
+		return (port == -1) ? parsed.getDefaultPort() : port;
+	}
+
+	/**
+	 * 按{@link URL#getPath()}取路径. 与{@link #getRemoteDir(String)}不同: 路径为空时返回主机之后、查询之前的部分(可能含片段).
+	 * 
 	 * @param url
 	 * @return
 	 */
@@ -232,6 +322,15 @@ public class UrlUtil {
 				"?");
 	}
 
+	/**
+	 * @param url
+	 * @return 路径, 不含查询和片段, 可以为空串; url不合法时返回<code>null</code>
+	 */
+	public static String getRemoteDir(String url) {
+		ParsedUrl parsed = ParsedUrl.parse(url);
+		return (parsed == null) ? null : parsed.getPath();
+	}
+
 	/**
 	 * @param url
 	 * @return
@@ -249,20 +348,52 @@ public class UrlUtil {
 	}
 
 	/**
+	 * @param url
+	 * @return 用户信息中':'之前的部分; 没有用户信息或其中没有':'时返回<code>null</code>
+	 */
+	public static String getUserName(String url) {
+		ParsedUrl parsed = ParsedUrl.parse(url);
+		int colon = indexOfUserInfoColon(parsed);
+		return (colon < 0) ? null : url.substring(
+				parsed.start(ParsedUrl.USER_INFO), colon);
+	}
+
+	/**
+	 * 按{@link URL#getUserInfo()}取密码; 用户信息中没有冒号时返回<code>null</code>
+	 * (以前在有用户名和端口而没有密码时会抛出StringIndexOutOfBoundsException).
+	 * 
 	 * @param url
 	 * @return
 	 */
 	public static String getPassword(URL url) {
-		String authority = url.getAuthority();
-		int lastAt = authority.lastIndexOf('@');
-		if (lastAt == -1) {
+		String userInfo = url.getUserInfo();
+		if (userInfo == null) {
 			return null;
 		}
-		int colon = authority.indexOf(':');
+		int colon = userInfo.indexOf(':');
 		if (colon == -1) {
 			return null;
 		}
-		return authority.substring(colon + 1, lastAt);
+		return userInfo.substring(colon + 1);
+	}
+
+	/**
+	 * @param url
+	 * @return 用户信息中第一个':'之后的部分; 没有用户信息或其中没有':'时返回<code>null</code>
+	 */
+	public static String getPassword(String url) {
+		ParsedUrl parsed = ParsedUrl.parse(url);
+		int colon = indexOfUserInfoColon(parsed);
+		return (colon < 0) ? null : url.substring(colon + 1,
+				parsed.end(ParsedUrl.USER_INFO));
+	}
+
+	private static int indexOfUserInfoColon(ParsedUrl parsed) {
+		if (parsed == null || !parsed.has(ParsedUrl.USER_INFO)) {
+			return -1;
+		}
+		int colon = parsed.getSource().indexOf(':', parsed.start(ParsedUrl.USER_INFO));
+		return (colon < parsed.end(ParsedUrl.USER_INFO)) ? colon : -1;
 	}
 
 	/**
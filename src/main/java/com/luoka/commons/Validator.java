@@ -0,0 +1,21 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+/**
+ * 字符串校验规则. 实现类应当是线程安全的, 并且对<code>null</code>输入返回<code>false</code>.
+ * @since zengqingmeng @ Oct 18, 2026 6:31:44 PM
+ *
+ * @see Validators
+ * @see ValidatorRegistry
+ */
+public interface Validator {
+
+	/**
+	 * @param input
+	 *            待校验的字符串
+	 * @return 是否符合规则
+	 */
+	boolean isValid(String input);
+}
@@ -0,0 +1,261 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 按名称登记的校验规则, 可一次校验整个表单的所有字段. <BR>
+ * 通过注册表执行的每次校验都计入该规则的统计(次数、失败次数、累计耗时), 便于找出表单校验中的热点规则.
+ * 默认注册表预先登记了{@link Validators}中的全部规则, 名称见{@link #getDefault()}.<br>
+ * 注册和查找都是线程安全的.
+ * @since zengqingmeng @ Oct 18, 2026 6:52:13 PM
+ *
+ */
+public final class ValidatorRegistry {
+
+	private static final ValidatorRegistry DEFAULT = createDefault();
+
+	private final ConcurrentHashMap<String, Rule> rules = new ConcurrentHashMap<String, Rule>();
+
+	/**
+	 * 创建一个空的注册表.
+	 */
+	public ValidatorRegistry() {
+	}
+
+	/**
+	 * 获取全局注册表, 预先登记的规则名称为: numeric, integer, positiveInteger, telephone, mobile,
+	 * accountName, qq, ipv4, ipv6, multiIpv4, email, domainName, httpUrl, rtmpUrl, date.
+	 */
+	public static ValidatorRegistry getDefault() {
+		return DEFAULT;
+	}
+
+	private static ValidatorRegistry createDefault() {
+		ValidatorRegistry registry = new ValidatorRegistry();
+		registry.register("numeric", Validators.NUMERIC);
+		registry.register("integer", Validators.INTEGER);
+		registry.register("positiveInteger", Validators.POSITIVE_INTEGER);
+		registry.register("telephone", Validators.TELEPHONE);
+		registry.register("mobile", Validators.MOBILE);
+		registry.register("accountName", Validators.ACCOUNT_NAME);
+		registry.register("qq", Validators.QQ);
+		registry.register("ipv4", Validators.IPV4);
+		registry.register("ipv6", Validators.IPV6);
+		registry.register("multiIpv4", Validators.MULTI_IPV4);
+		registry.register("email", Validators.EMAIL);
+		registry.register("domainName", Validators.DOMAIN_NAME);
+		registry.register("httpUrl", Validators.HTTP_URL);
+		registry.register("rtmpUrl", Validators.RTMP_URL);
+		registry.register("date", Validators.DATE);
+		return registry;
+	}
+
+	/**
+	 * 登记规则; 同名的规则被替换, 统计重新开始.
+	 *
+	 * @param name
+	 *            规则名称
+	 * @param validator
+	 *            规则
+	 */
+	public void register(String name, Validator validator) {
+		AssertUtil.notNull(name, "name is null.");
+		AssertUtil.notNull(validator, "validator is null.");
+		rules.put(name, new Rule(validator));
+	}
+
+	/**
+	 * 按名称查找规则.
+	 *
+	 * @return 规则; 未登记时返回<code>null</code>
+	 */
+	public Validator get(String name) {
+		Rule rule = rules.get(name);
+		return (rule == null) ? null : rule.validator;
+	}
+
+	/**
+	 * 按给定名称的规则校验输入, 并计入统计.
+	 *
+	 * @throws IllegalArgumentException
+	 *             规则未登记.
+	 */
+	public boolean isValid(String name, String input) {
+		return getRule(name).check(input);
+	}
+
+	/**
+	 * 校验表单的多个字段.
+	 *
+	 * @param fields
+	 *            字段名到字段值的映射
+	 * @param fieldRules
+	 *            字段名到规则名称的映射; 字段值不存在时按<code>null</code>校验
+	 * @return 未通过校验的字段名到规则名称的映射, 按<code>fieldRules</code>的顺序排列; 全部通过时为空
+	 * @throws IllegalArgumentException
+	 *             有规则未登记.
+	 */
+	public Map<String, String> validate(Map<String, String> fields,
+			Map<String, String> fieldRules) {
+		AssertUtil.notNull(fields, "fields is null.");
+		AssertUtil.notNull(fieldRules, "fieldRules is null.");
+		Map<String, String> failures = null;
+		for (Map.Entry<String, String> entry : fieldRules.entrySet()) {
+			if (!getRule(entry.getValue()).check(fields.get(entry.getKey()))) {
+				if (failures == null) {
+					failures = new LinkedHashMap<String, String>();
+				}
+				failures.put(entry.getKey(), entry.getValue());
+			}
+		}
+		return (failures == null) ? Collections.<String, String> emptyMap() : failures;
+	}
+
+	private Rule getRule(String name) {
+		Rule rule = rules.get(name);
+		if (rule == null) {
+			throw new IllegalArgumentException("Unknown validator: " + name);
+		}
+		return rule;
+	}
+
+	/**
+	 * @return 给定规则的统计; 规则未登记时返回<code>null</code>
+	 */
+	public Stats getStats(String name) {
+		Rule rule = rules.get(name);
+		return (rule == null) ? null : rule.snapshot(name);
+	}
+
+	/**
+	 * @return 所有规则的统计, 按名称排列
+	 */
+	public Map<String, Stats> getAllStats() {
+		Map<String, Stats> result = new TreeMap<String, Stats>();
+		for (Map.Entry<String, Rule> entry : rules.entrySet()) {
+			result.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+		}
+		return result;
+	}
+
+	/**
+	 * 清零所有规则的统计.
+	 */
+	public void resetStats() {
+		for (Rule rule : rules.values()) {
+			rule.reset();
+		}
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "ValidatorRegistry " + rules.keySet();
+	}
+
+	/**
+	 * 规则及其计数器.
+	 */
+	private static final class Rule {
+		private final Validator validator;
+		private final AtomicLong invocations = new AtomicLong();
+		private final AtomicLong failures = new AtomicLong();
+		private final AtomicLong nanos = new AtomicLong();
+
+		Rule(Validator validator) {
+			this.validator = validator;
+		}
+
+		boolean check(String input) {
+			long start = System.nanoTime();
+			boolean valid = validator.isValid(input);
+			nanos.addAndGet(System.nanoTime() - start);
+			invocations.incrementAndGet();
+			if (!valid) {
+				failures.incrementAndGet();
+			}
+			return valid;
+		}
+
+		Stats snapshot(String name) {
+			return new Stats(name, invocations.get(), failures.get(), nanos.get());
+		}
+
+		void reset() {
+			invocations.set(0);
+			failures.set(0);
+			nanos.set(0);
+		}
+	}
+
+	/**
+	 * 某个规则的统计快照.
+	 */
+	public static final class Stats {
+		private final String name;
+		private final long invocations;
+		private final long failures;
+		private final long totalNanos;
+
+		Stats(String name, long invocations, long failures, long totalNanos) {
+			this.name = name;
+			this.invocations = invocations;
+			this.failures = failures;
+			this.totalNanos = totalNanos;
+		}
+
+		/**
+		 * @return 规则名称
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return 校验次数
+		 */
+		public long getInvocations() {
+			return invocations;
+		}
+
+		/**
+		 * @return 未通过的次数
+		 */
+		public long getFailures() {
+			return failures;
+		}
+
+		/**
+		 * @return 累计耗时(纳秒)
+		 */
+		public long getTotalNanos() {
+			return totalNanos;
+		}
+
+		/**
+		 * @return 平均每次耗时(纳秒), 尚无校验时为0
+		 */
+		public long getAverageNanos() {
+			return (invocations == 0) ? 0 : totalNanos / invocations;
+		}
+
+		/**
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "Stats [name=" + name + ", invocations=" + invocations
+					+ ", failures=" + failures + ", totalNanos=" + totalNanos + "]";
+		}
+	}
+}
@@ -0,0 +1,327 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.regex.Pattern;
+
+/**
+ * 常用的校验规则, 即{@link StringHelper}中各isXxx方法的实现. <BR>
+ * 数字、电话号码、IP地址等简单规则是逐字符扫描的手写实现, 其余规则的正则表达式只在类加载时编译一次.
+ * 各规则接受的输入与原先的正则表达式完全一致.
+ * @since zengqingmeng @ Oct 18, 2026 6:31:44 PM
+ *
+ */
+public final class Validators {
+
+	/**
+	 * 数字: <code>[-|+]?\d+(\.\d+)?</code>.
+	 */
+	public static final Validator NUMERIC = new Validator() {
+		@Override
+		public boolean isValid(String input) {
+			if (StringHelper.isEmpty(input)) {
+				return false;
+			}
+			int pos = skipSign(input);
+			int digits = skipDigits(input, pos);
+			if (digits == pos) {
+				return false;
+			}
+			if (digits == input.length()) {
+				return true;
+			}
+			if (input.charAt(digits) != '.') {
+				return false;
+			}
+			int fraction = skipDigits(input, digits + 1);
+			return fraction > digits + 1 && fraction == input.length();
+		}
+	};
+
+	/**
+	 * 整数(不含0): <code>[-|+]?[1-9][0-9]*</code>.
+	 */
+	public static final Validator INTEGER = new Validator() {
+		@Override
+		public boolean isValid(String input) {
+			if (StringHelper.isEmpty(input)) {
+				return false;
+			}
+			return isPositiveInteger(input, skipSign(input));
+		}
+	};
+
+	/**
+	 * 正整数: <code>[1-9][0-9]*</code>.
+	 */
+	public static final Validator POSITIVE_INTEGER = new Validator() {
+		@Override
+		public boolean isValid(String input) {
+			if (StringHelper.isEmpty(input)) {
+				return false;
+			}
+			return isPositiveInteger(input, 0);
+		}
+	};
+
+	/**
+	 * 电话号码: [+国际区号-][国内区号-]8位号码[-分机号].
+	 */
+	public static final Validator TELEPHONE = new Validator() {
+		@Override
+		public boolean isValid(String input) {
+			if (StringHelper.isEmpty(input)) {
+				return false;
+			}
+			// 最多4段, 记录每段的起止位置
+			int[] bounds = new int[8];
+			int parts = 0;
+			int start = 0;
+			for (int i = 0; i <= input.length(); i++) {
+				if (i == input.length() || input.charAt(i) == '-') {
+					if (parts == 4) {
+						return false;
+					}
+					bounds[parts * 2] = start;
+					bounds[parts * 2 + 1] = i;
+					parts++;
+					start = i + 1;
+				}
+			}
+			switch (parts) {
+			case 1:
+				return isNumber(input, bounds, 0);
+			case 2:
+				return (isAreaCode(input, bounds, 0, true) && isNumber(input, bounds, 1))
+						|| (isNumber(input, bounds, 0) && isExtension(input, bounds, 1));
+			case 3:
+				return isAreaCode(input, bounds, 0, true)
+						&& ((isAreaCode(input, bounds, 1, false) && isNumber(input, bounds, 2))
+						|| (isNumber(input, bounds, 1) && isExtension(input, bounds, 2)));
+			default:
+				return isAreaCode(input, bounds, 0, true) && isAreaCode(input, bounds, 1, false)
+						&& isNumber(input, bounds, 2) && isExtension(input, bounds, 3);
+			}
+		}
+
+		/**
+		 * 国际区号<code>(\+|0)[0-9]{2,3}</code>或国内区号<code>0[0-9]{2,3}</code>; 前者包含后者.
+		 */
+		private boolean isAreaCode(String input, int[] bounds, int part,
+				boolean international) {
+			int start = bounds[part * 2];
+			int length = bounds[part * 2 + 1] - start;
+			if (length < 3 || length > 4) {
+				return false;
+			}
+			char first = input.charAt(start);
+			if (first != '0' && !(international && first == '+')) {
+				return false;
+			}
+			return skipDigits(input, start + 1) >= start + length;
+		}
+
+		private boolean isNumber(String input, int[] bounds, int part) {
+			return isDigits(input, bounds, part, 8, 8);
+		}
+
+		private boolean isExtension(String input, int[] bounds, int part) {
+			return isDigits(input, bounds, part, 3, 4);
+		}
+
+		private boolean isDigits(String input, int[] bounds, int part,
+				int minLength, int maxLength) {
+			int start = bounds[part * 2];
+			int end = bounds[part * 2 + 1];
+			return end - start >= minLength && end - start <= maxLength
+					&& skipDigits(input, start) >= end;
+		}
+	};
+
+	/**
+	 * 手机号码: 以1开头、长度为11的{@link #NUMERIC}.
+	 */
+	public static final Validator MOBILE = new Validator() {
+		@Override
+		public boolean isValid(String input) {
+			return NUMERIC.isValid(input) && input.length() == 11
+					&& input.charAt(0) == '1';
+		}
+	};
+
+	/**
+	 * 账号: 字母开头, 由字母、数字和下划线组成, 共5至16个字符.
+	 */
+	public static final Validator ACCOUNT_NAME = new Validator() {
+		@Override
+		public boolean isValid(String input) {
+			if (input == null || input.length() < 5 || input.length() > 16
+					|| !isLetter(input.charAt(0))) {
+				return false;
+			}
+			for (int i = 1; i < input.length(); i++) {
+				char ch = input.charAt(i);
+				if (!isLetter(ch) && !isDigit(ch) && ch != '_') {
+					return false;
+				}
+			}
+			return true;
+		}
+	};
+
+	/**
+	 * QQ号: 不以0开头的5至9位数字.
+	 */
+	public static final Validator QQ = new Validator() {
+		@Override
+		public boolean isValid(String input) {
+			return input != null && input.length() >= 5 && input.length() <= 9
+					&& isPositiveInteger(input, 0);
+		}
+	};
+
+	/**
+	 * IPv4地址: 点分十进制, 各段不带前导0.
+	 */
+	public static final Validator IPV4 = new Validator() {
+		@Override
+		public boolean isValid(String input) {
+			return IpUtil.parseIPv4(input) != IpUtil.INVALID;
+		}
+	};
+
+	/**
+	 * IPv6地址.
+	 *
+	 * @see IpUtil#parseIPv6(CharSequence, long[])
+	 */
+	public static final Validator IPV6 = new Validator() {
+		@Override
+		public boolean isValid(String input) {
+			return IpUtil.isIPv6(input);
+		}
+	};
+
+	/**
+	 * 以逗号分隔的多个IPv4地址.
+	 */
+	public static final Validator MULTI_IPV4 = new Validator() {
+		@Override
+		public boolean isValid(String input) {
+			if (StringHelper.isEmpty(input)) {
+				return false;
+			}
+			Splitter.Tokens tokens = IP_LIST_SPLITTER.tokenize(input);
+			while (tokens.advance()) {
+				if (IpUtil.parseIPv4(input, tokens.start(), tokens.end()) == IpUtil.INVALID) {
+					return false;
+				}
+			}
+			return true;
+		}
+	};
+
+	/**
+	 * 邮件地址.
+	 */
+	public static final Validator EMAIL = new PatternValidator(
+			"^[A-Za-z0-9._%+-]+@(\\w+\\.)+[a-zA-Z]{2,3}");
+
+	/**
+	 * 域名.
+	 */
+	public static final Validator DOMAIN_NAME = new PatternValidator(
+			"[a-zA-Z0-9][-a-zA-Z0-9]{0,62}(\\.[a-zA-Z0-9][-a-zA-Z0-9]{0,62})+");
+
+	/**
+	 * HTTP URL.
+	 */
+	public static final Validator HTTP_URL = new PatternValidator(
+			"http://(\\w+(-\\w+)*)(\\.(\\w+(-\\w+)*))*(:\\d{2,4})?(\\/[^#$]+)*");
+
+	/**
+	 * RTMP URL, 末尾的'/'被忽略.
+	 */
+	public static final Validator RTMP_URL = new PatternValidator(
+			"rtmp://(\\w+(-\\w+)*)(\\.(\\w+(-\\w+)*))*(:\\d{2,4})?(\\/[^#$]+)*") {
+		@Override
+		public boolean isValid(String input) {
+			return super.isValid(StringHelper.removeLastSlashChar(input));
+		}
+	};
+
+	/**
+	 * 日期: 年月日之间可用'-'、'/'或空白分隔, 并校验大小月及闰年.
+	 */
+	public static final Validator DATE = new PatternValidator(
+			"^((\\d{2}(([02468][048])|([13579][26]))[\\-\\/\\s]?((((0?[13578])|(1[02]))[\\-\\/\\s]?((0?[1-9])|([1-2][0-9])|(3[01])))|(((0?[469])|(11))[\\-\\/\\s]?((0?[1-9])|([1-2][0-9])|(30)))|(0?2[\\-\\/\\s]?((0?[1-9])|([1-2][0-9])))))|(\\d{2}(([02468][1235679])|([13579][01345789]))[\\-\\/\\s]?((((0?[13578])|(1[02]))[\\-\\/\\s]?((0?[1-9])|([1-2][0-9])|(3[01])))|(((0?[469])|(11))[\\-\\/\\s]?((0?[1-9])|([1-2][0-9])|(30)))|(0?2[\\-\\/\\s]?((0?[1-9])|(1[0-9])|(2[0-8]))))))");
+
+	private static final Splitter IP_LIST_SPLITTER = Splitter.onAnyOf(",").omitEmptyStrings();
+
+	private Validators() {
+	}
+
+	/**
+	 * 由正则表达式构造校验规则, 表达式只编译一次.
+	 *
+	 * @param regex
+	 *            需整体匹配的正则表达式
+	 */
+	public static Validator matching(String regex) {
+		return new PatternValidator(regex);
+	}
+
+	/**
+	 * 跳过开头的符号; 与原正则<code>[-|+]?</code>一致, '|'也被当作符号.
+	 */
+	private static int skipSign(String input) {
+		char ch = input.charAt(0);
+		return (ch == '-' || ch == '+' || ch == '|') ? 1 : 0;
+	}
+
+	/**
+	 * @return 从<code>from</code>起第一个非数字字符的位置
+	 */
+	private static int skipDigits(String input, int from) {
+		int i = from;
+		while (i < input.length() && isDigit(input.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	private static boolean isPositiveInteger(String input, int from) {
+		return from < input.length() && input.charAt(from) != '0'
+				&& skipDigits(input, from) == input.length();
+	}
+
+	private static boolean isDigit(char ch) {
+		return ch >= '0' && ch <= '9';
+	}
+
+	private static boolean isLetter(char ch) {
+		return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+	}
+
+	private static class PatternValidator implements Validator {
+		private final Pattern pattern;
+
+		PatternValidator(String regex) {
+			this.pattern = Pattern.compile(regex);
+		}
+
+		@Override
+		public boolean isValid(String input) {
+			if (StringHelper.isEmpty(input)) {
+				return false;
+			}
+			return pattern.matcher(input).matches();
+		}
+
+		@Override
+		public String toString() {
+			return pattern.pattern();
+		}
+	}
+}
@@ -0,0 +1,314 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 基于epoch day和时区偏移的纯算术日历运算, 用于替代频繁创建Calendar对象的边界计算. <BR>
+ * 每个时区在首次使用时预先生成1900至2100年间的偏移变化表, 此后查询偏移只是一次二分查找;
+ * 范围之外的时间直接询问TimeZone. 所有运算都在long上完成, 不创建任何对象.<br>
+ * 日期按前推格里高利历计算, 不适用于1582-10-15之前的时间.
+ * @since zengqingmeng @ Oct 18, 2026 2:05:12 PM
+ *
+ */
+public final class ZonedCalendar {
+
+	static final long MILLIS_PER_DAY = 24L * 3600 * 1000;
+
+	static final long MILLIS_PER_HOUR = 3600L * 1000;
+
+	/**
+	 * 偏移变化表覆盖的起止时间(UTC): 1900-01-01至2100-01-01.
+	 */
+	private static final long TABLE_START = -2208988800000L;
+	private static final long TABLE_END = 4102444800000L;
+
+	private static final ConcurrentHashMap<String, ZonedCalendar> CALENDARS = new ConcurrentHashMap<String, ZonedCalendar>();
+
+	private static volatile ZonedCalendar defaultCalendar;
+
+	private final TimeZone zone;
+
+	/**
+	 * 偏移发生变化的时刻(UTC毫秒), 升序.
+	 */
+	private final long[] transitions;
+
+	/**
+	 * <code>offsets[i]</code>为<code>transitions[i]</code>之后的偏移;
+	 * <code>offsets[transitions.length]</code>为第一次变化之前的偏移.
+	 */
+	private final int[] offsets;
+
+	/**
+	 * 全程固定偏移时有效, 否则为{@link Integer#MIN_VALUE}.
+	 */
+	private final int fixedOffset;
+
+	private final int rawOffset;
+
+	private ZonedCalendar(TimeZone zone) {
+		this.zone = (TimeZone) zone.clone();
+		this.rawOffset = zone.getRawOffset();
+		List<long[]> changes = new ArrayList<long[]>();
+		int before = zone.getOffset(TABLE_START);
+		boolean fixed = false;
+		try {
+			ZoneRules rules = ZoneId.of(zone.getID()).getRules();
+			fixed = rules.isFixedOffset();
+			if (!fixed) {
+				Instant instant = Instant.ofEpochMilli(TABLE_START);
+				for (ZoneOffsetTransition t = rules.nextTransition(instant); t != null
+						&& t.getInstant().toEpochMilli() < TABLE_END; t = rules
+						.nextTransition(t.getInstant())) {
+					changes.add(new long[] { t.getInstant().toEpochMilli(),
+							t.getOffsetAfter().getTotalSeconds() * 1000L });
+				}
+			}
+		} catch (RuntimeException e) {
+			// 自定义的TimeZone没有对应的ZoneRules, 只能逐次询问TimeZone
+			changes.clear();
+		}
+		this.transitions = new long[changes.size()];
+		this.offsets = new int[changes.size() + 1];
+		for (int i = 0; i < transitions.length; i++) {
+			transitions[i] = changes.get(i)[0];
+			offsets[i] = (int) changes.get(i)[1];
+		}
+		offsets[transitions.length] = before;
+		this.fixedOffset = fixed ? rawOffset : Integer.MIN_VALUE;
+	}
+
+	/**
+	 * 获取给定时区的日历, 同一时区只生成一次偏移变化表.
+	 */
+	public static ZonedCalendar of(TimeZone zone) {
+		AssertUtil.notNull(zone, "zone is null.");
+		ZonedCalendar calendar = CALENDARS.get(zone.getID());
+		if (calendar == null || !calendar.zone.hasSameRules(zone)) {
+			calendar = new ZonedCalendar(zone);
+			CALENDARS.put(zone.getID(), calendar);
+		}
+		return calendar;
+	}
+
+	/**
+	 * 获取JVM默认时区的日历. 默认时区在首次调用时读取, 修改JVM默认时区后需调用{@link #resetDefault()}.
+	 */
+	public static ZonedCalendar getDefault() {
+		ZonedCalendar calendar = defaultCalendar;
+		if (calendar == null) {
+			calendar = of(TimeZone.getDefault());
+			defaultCalendar = calendar;
+		}
+		return calendar;
+	}
+
+	/**
+	 * 重新读取JVM默认时区.
+	 */
+	public static void resetDefault() {
+		defaultCalendar = null;
+	}
+
+	/**
+	 * 给定时刻相对UTC的偏移毫秒数, 同{@link TimeZone#getOffset(long)}.
+	 */
+	public int getOffset(long millis) {
+		if (fixedOffset != Integer.MIN_VALUE) {
+			return fixedOffset;
+		}
+		if (millis < TABLE_START || millis >= TABLE_END || transitions.length == 0) {
+			return zone.getOffset(millis);
+		}
+		int index = Arrays.binarySearch(transitions, millis);
+		if (index >= 0) {
+			return offsets[index];
+		}
+		index = -index - 2;
+		return (index < 0) ? offsets[transitions.length] : offsets[index];
+	}
+
+	/**
+	 * UTC毫秒数转为本地毫秒数(即把本地时间当作UTC时间得到的毫秒数).
+	 */
+	public long toLocal(long millis) {
+		return millis + getOffset(millis);
+	}
+
+	/**
+	 * 本地毫秒数转为UTC毫秒数. 夏令时跳过的本地时间按跳变前的偏移解释(即顺延),
+	 * 与宽松模式的GregorianCalendar一致.
+	 */
+	public long toUtc(long local) {
+		int offset = getOffset(local - rawOffset);
+		long utc = local - offset;
+		int actual = getOffset(utc);
+		if (actual == offset) {
+			return utc;
+		}
+		if (getOffset(local - actual) == actual) {
+			return local - actual;
+		}
+		// 两个偏移都不自洽, 说明该本地时间被跳过了; 按跳变前(较小)的偏移解释
+		return local - Math.min(offset, actual);
+	}
+
+	/**
+	 * @return 给定时刻所在日的0点
+	 */
+	public long dayStart(long millis) {
+		return toUtc(Math.floorDiv(toLocal(millis), MILLIS_PER_DAY) * MILLIS_PER_DAY);
+	}
+
+	/**
+	 * @return 给定时刻之后第<code>days</code>天的0点; <code>days</code>为0时即当天0点
+	 */
+	public long nextDayStart(long millis, int days) {
+		return toUtc((Math.floorDiv(toLocal(millis), MILLIS_PER_DAY) + days)
+				* MILLIS_PER_DAY);
+	}
+
+	/**
+	 * @return 给定时刻所在小时的开始
+	 */
+	public long hourStart(long millis) {
+		return millis - Math.floorMod(toLocal(millis), MILLIS_PER_HOUR);
+	}
+
+	/**
+	 * @return 给定时刻之后第<code>hours</code>个小时的开始; <code>hours</code>为0时即本小时开始
+	 */
+	public long nextHourStart(long millis, int hours) {
+		return hourStart(millis) + hours * MILLIS_PER_HOUR;
+	}
+
+	/**
+	 * @return 给定时刻所在周(周一为一周的第一天)的周一0点
+	 */
+	public long weekStart(long millis) {
+		long epochDay = Math.floorDiv(toLocal(millis), MILLIS_PER_DAY);
+		// 1970-01-01是周四
+		epochDay -= Math.floorMod(epochDay + 3, 7);
+		return toUtc(epochDay * MILLIS_PER_DAY);
+	}
+
+	/**
+	 * @return 给定时刻所在月1日0点
+	 */
+	public long monthStart(long millis) {
+		long local = toLocal(millis);
+		long ymd = toPackedDate(Math.floorDiv(local, MILLIS_PER_DAY));
+		return toUtc(toEpochDay(ymd >> 9, (int) (ymd >> 5) & 0xF, 1) * MILLIS_PER_DAY);
+	}
+
+	/**
+	 * 按本地时间加减天数, 时分秒不变, 同<code>Calendar.add(Calendar.DATE, days)</code>.
+	 */
+	public long plusDays(long millis, int days) {
+		return toUtc(toLocal(millis) + days * MILLIS_PER_DAY);
+	}
+
+	/**
+	 * 按本地时间加减月数, 时分秒不变; 日超出目标月的天数时取该月最后一天, 同
+	 * <code>Calendar.add(Calendar.MONTH, months)</code>.
+	 */
+	public long plusMonths(long millis, int months) {
+		long local = toLocal(millis);
+		long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+		long millisOfDay = local - epochDay * MILLIS_PER_DAY;
+		long ymd = toPackedDate(epochDay);
+		long monthIndex = (ymd >> 9) * 12 + ((ymd >> 5) & 0xF) - 1 + months;
+		long year = Math.floorDiv(monthIndex, 12);
+		int month = (int) Math.floorMod(monthIndex, 12L) + 1;
+		int day = (int) Math.min(ymd & 0x1F, lengthOfMonth(year, month));
+		return toUtc(toEpochDay(year, month, day) * MILLIS_PER_DAY + millisOfDay);
+	}
+
+	/**
+	 * 把日改为给定值, 时分秒不变, 同<code>Calendar.set(Calendar.DATE, dayOfMonth)</code>(宽松模式).
+	 */
+	public long withDayOfMonth(long millis, int dayOfMonth) {
+		long local = toLocal(millis);
+		long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+		long ymd = toPackedDate(epochDay);
+		return toUtc(local + (dayOfMonth - (ymd & 0x1F)) * MILLIS_PER_DAY);
+	}
+
+	/**
+	 * @return 星期几, 取值同{@link Calendar#DAY_OF_WEEK}, 即周日为1, 周六为7
+	 */
+	public int dayOfWeek(long millis) {
+		long epochDay = Math.floorDiv(toLocal(millis), MILLIS_PER_DAY);
+		return (int) Math.floorMod(epochDay + 4, 7L) + 1;
+	}
+
+	/**
+	 * @return 年份
+	 */
+	public int year(long millis) {
+		return (int) (toPackedDate(Math.floorDiv(toLocal(millis), MILLIS_PER_DAY)) >> 9);
+	}
+
+	/**
+	 * @return 该日历的时区(副本)
+	 */
+	public TimeZone getTimeZone() {
+		return (TimeZone) zone.clone();
+	}
+
+	/**
+	 * 由epoch day计算年月日, 打包为<code>year &lt;&lt; 9 | month &lt;&lt; 5 | day</code>.
+	 */
+	static long toPackedDate(long epochDay) {
+		long z = epochDay + 719468;
+		long era = Math.floorDiv(z, 146097);
+		long doe = z - era * 146097;
+		long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+		long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+		long mp = (5 * doy + 2) / 153;
+		long day = doy - (153 * mp + 2) / 5 + 1;
+		long month = (mp < 10) ? mp + 3 : mp - 9;
+		long year = yoe + era * 400 + ((month <= 2) ? 1 : 0);
+		return (year << 9) | (month << 5) | day;
+	}
+
+	/**
+	 * 由年月日计算epoch day(1970-01-01为0).
+	 */
+	static long toEpochDay(long year, int month, int day) {
+		year -= (month <= 2) ? 1 : 0;
+		long era = Math.floorDiv(year, 400);
+		long yoe = year - era * 400;
+		long doy = (153 * ((month > 2) ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+		return era * 146097 + doe - 719468;
+	}
+
+	static int lengthOfMonth(long year, int month) {
+		if (month == 2) {
+			return ((year & 3) == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+		}
+		return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "ZonedCalendar [zone=" + zone.getID() + ", transitions="
+				+ transitions.length + "]";
+	}
+}
@@ -0,0 +1,27 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import junit.framework.TestCase;
+
+/**
+ * {@link ArrayUtil#equalsIgnoreOrder(int[], int[], int)}.
+ * @since zengqingmeng @ Oct 19, 2026 11:10:27 AM
+ *
+ */
+public class ArrayUtilTest extends TestCase {
+
+	public void testEqualsIgnoreOrderAsMultiset() {
+		int mode = CollectionUtil.COMPARE_AS_MULTISET;
+		assertTrue(ArrayUtil.equalsIgnoreOrder(new int[] { 0, -1, 3, 0, 3 },
+				new int[] { 3, 0, 3, -1, 0 }, mode));
+		assertFalse(ArrayUtil.equalsIgnoreOrder(new int[] { 0, 0, 1 }, new int[] { 0, 1, 1 }, mode));
+		assertFalse(ArrayUtil.equalsIgnoreOrder(new int[] { 1, 2 }, new int[] { 2, 1, 1 }, mode));
+		assertTrue(ArrayUtil.equalsIgnoreOrder(new int[0], new int[0], mode));
+		assertTrue(ArrayUtil.equalsIgnoreOrder((int[]) null, null, mode));
+		assertFalse(ArrayUtil.equalsIgnoreOrder(new int[0], null, mode));
+		// 按集合比较时忽略重复
+		assertTrue(ArrayUtil.equalsIgnoreOrder(new int[] { 0, 0, 1 }, new int[] { 0, 1, 1 }));
+	}
+}
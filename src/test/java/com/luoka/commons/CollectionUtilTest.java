@@ -0,0 +1,40 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * {@link CollectionUtil#popAllSubList(List, Object, Object)}.
+ * @since zengqingmeng @ Oct 19, 2026 9:58:31 AM
+ *
+ */
+public class CollectionUtilTest extends TestCase {
+
+	public void testPopAllSubList() {
+		List<String> lines = new ArrayList<String>(Arrays.asList("a", "B", "x", "E", "b",
+				"B", "y", "E", "c", "B", "z"));
+		List<List<String>> blocks = CollectionUtil.popAllSubList(lines, "B", "E");
+		assertEquals(Arrays.asList(Arrays.asList("B", "x", "E"), Arrays.asList("B", "y", "E")),
+				blocks);
+		// 没有结束的段保留在原处
+		assertEquals(Arrays.asList("a", "b", "c", "B", "z"), lines);
+
+		List<String> linked = new LinkedList<String>(Arrays.asList("B", "E", "B", "E", "x"));
+		assertEquals(2, CollectionUtil.popAllSubList(linked, "B", "E").size());
+		assertEquals(Arrays.asList("x"), linked);
+	}
+
+	public void testPopAllSubListWithoutMatchDoesNotModify() {
+		List<Integer> list = Collections.unmodifiableList(Arrays.asList(0, 1, 3));
+		assertTrue(CollectionUtil.popAllSubList(list, 1, 2).isEmpty());
+		assertEquals(Arrays.asList(0, 1, 3), list);
+	}
+}
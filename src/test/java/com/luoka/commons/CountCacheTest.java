@@ -0,0 +1,110 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+/**
+ * {@link CountCache}: 同一个查询同时只有一个线程在计数.
+ * @since zengqingmeng @ Oct 19, 2026 10:52:40 AM
+ *
+ */
+public class CountCacheTest extends TestCase {
+
+	public void testConcurrentMissCountsOnce() throws Exception {
+		final CountCache cache = new CountCache(16, 60000L, null);
+		final AtomicInteger calls = new AtomicInteger();
+		final CountDownLatch counting = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountCache.Counter counter = new CountCache.Counter() {
+			@Override
+			public long count() {
+				calls.incrementAndGet();
+				counting.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+				return 42L;
+			}
+		};
+		final List<CountCache.Count> results = new ArrayList<CountCache.Count>();
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < 8; i++) {
+			threads.add(new Thread() {
+				@Override
+				public void run() {
+					CountCache.Count count = cache.get("q", counter);
+					synchronized (results) {
+						results.add(count);
+					}
+				}
+			});
+		}
+		threads.get(0).start();
+		counting.await();
+		for (int i = 1; i < threads.size(); i++) {
+			threads.get(i).start();
+		}
+		// 让其他线程进入等待
+		Thread.sleep(50);
+		release.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(1, calls.get());
+		assertEquals(8, results.size());
+		for (CountCache.Count count : results) {
+			assertEquals(42L, count.getValue());
+			assertFalse(count.isEstimate());
+		}
+		assertEquals(1L, cache.getMissCount());
+		assertEquals(1, cache.size());
+	}
+
+	public void testFailedCountIsNotCached() {
+		CountCache cache = new CountCache(16, 60000L, null);
+		try {
+			cache.get("q", new CountCache.Counter() {
+				@Override
+				public long count() {
+					throw new IllegalStateException("count failed");
+				}
+			});
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals("count failed", e.getMessage());
+		}
+		assertEquals(0, cache.size());
+		CountCache.Count count = cache.get("q", new CountCache.Counter() {
+			@Override
+			public long count() {
+				return 7L;
+			}
+		});
+		assertEquals(7L, count.getValue());
+		assertEquals(1, cache.size());
+	}
+
+	public void testExpiredCountIsEstimate() throws Exception {
+		CountCache cache = new CountCache(16, 1L, null);
+		cache.put("q", 10L, false);
+		Thread.sleep(5);
+		CountCache.Count count = cache.get("q", new CountCache.Counter() {
+			@Override
+			public long count() {
+				return 11L;
+			}
+		});
+		// 没有线程池时同步重新计数
+		assertEquals(11L, count.getValue());
+		assertEquals(1L, cache.getRefreshCount());
+	}
+}
@@ -0,0 +1,61 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import junit.framework.TestCase;
+
+/**
+ * {@link DateFormatCache}的快速路径({@link DateFormatter})须与SimpleDateFormat的结果一致.
+ * @since zengqingmeng @ Oct 19, 2026 9:40:12 AM
+ *
+ */
+public class DateFormatCacheTest extends TestCase {
+
+	private static final String[] PATTERNS = { "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd",
+			"HH:mm:ss", "yyyyMMddHHmmssSSS", "yy/M/d H:m:s.S", "dd-MMM-yyyy", "MMMM yyyy",
+			"'at' HH'h'mm", "EEE, dd MMM yyyy HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss.SSSZ" };
+
+	private static final long[] MILLIS = { 0L, 1717977600000L, 1717977600123L,
+			951782400000L, 4102444799999L, -86400001L };
+
+	public void testFastPathMatchesSimpleDateFormat() {
+		DateFormatCache cache = new DateFormatCache(16);
+		String[] zones = { "UTC", "Asia/Shanghai", "America/New_York" };
+		Locale[] locales = { Locale.US, Locale.CHINA };
+		for (String zoneId : zones) {
+			TimeZone zone = TimeZone.getTimeZone(zoneId);
+			for (Locale locale : locales) {
+				for (String pattern : PATTERNS) {
+					SimpleDateFormat expected = new SimpleDateFormat(pattern, locale);
+					expected.setTimeZone(zone);
+					DateFormatCache.CompiledFormat format = cache.get(pattern, locale, zone);
+					for (long millis : MILLIS) {
+						assertEquals(pattern + " " + zoneId + " " + locale + " " + millis,
+								expected.format(new Date(millis)), format.format(millis));
+					}
+				}
+			}
+		}
+	}
+
+	public void testTextMonthFallsBackToSimpleDateFormat() {
+		DateFormatCache cache = new DateFormatCache(4);
+		TimeZone utc = TimeZone.getTimeZone("UTC");
+		assertFalse(cache.get("dd-MMM-yyyy", Locale.US, utc).hasFastPath());
+		assertFalse(cache.get("MMMM yyyy", Locale.US, utc).hasFastPath());
+		assertTrue(cache.get("yyyy-MM-dd", Locale.US, utc).hasFastPath());
+		assertEquals("10-Jun-2024", cache.get("dd-MMM-yyyy", Locale.US, utc).format(1717977600000L));
+	}
+
+	public void testMillis2StringWithTextMonth() {
+		SimpleDateFormat expected = new SimpleDateFormat("dd-MMM-yyyy");
+		assertEquals(expected.format(new Date(1717977600000L)),
+				DateUtil.millis2String(1717977600000L, "dd-MMM-yyyy"));
+	}
+}
@@ -0,0 +1,58 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * {@link DateParser}须与依次调用SimpleDateFormat解析的结果相同.
+ * @since zengqingmeng @ Oct 19, 2026 2:40:18 PM
+ *
+ */
+public class DateParserTest extends TestCase {
+
+	private static final String[] TEXTS = { "2010-03-28", "2010-03-28 12:30:00", "2010/03/28",
+			"20100328", "2010-3-8", "2010-03-28x", "12:30:00", "2010-13-45", "", "abc",
+			"2010.03.28", "2010-03-28 12:30" };
+
+	public void testFirstMatchingPatternWins() {
+		List<String> patterns = Arrays.asList("yyyy-MM-dd", "yyyy-MM-dd HH:mm:ss");
+		Date date = DateUtil.parseDate("2010-03-28 12:30:00", patterns);
+		assertEquals(expected("2010-03-28 12:30:00", patterns), date);
+		assertEquals("2010-03-28 00:00:00", DateUtil.date2String(date, "yyyy-MM-dd HH:mm:ss"));
+	}
+
+	public void testSameAsSimpleDateFormat() {
+		List<List<String>> patternLists = Arrays.asList(DateUtil.DEFAULT_PARSE_PATTERNS,
+				Arrays.asList("yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd", "yyyyMMdd"),
+				Arrays.asList("yyyyMMdd", "yyyy-MM-dd"),
+				Arrays.asList("HH:mm:ss", "yyyy.MM.dd", "yyyy-MM-dd HH:mm"),
+				Arrays.asList("bad'", "yyyy/MM/dd"));
+		for (List<String> patterns : patternLists) {
+			DateParser parser = DateParser.compile(patterns);
+			for (String text : TEXTS) {
+				assertEquals(patterns + " " + text, expected(text, patterns), parser.parse(text));
+			}
+		}
+	}
+
+	private static Date expected(String text, List<String> patterns) {
+		for (String pattern : patterns) {
+			try {
+				return new SimpleDateFormat(pattern).parse(text);
+			} catch (ParseException e) {
+				// 下一个格式
+			} catch (IllegalArgumentException e) {
+				// 不合法的格式
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,67 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
+
+import junit.framework.TestCase;
+
+/**
+ * {@link PageIterator}: 遍历时最多持有两页.
+ * @since zengqingmeng @ Oct 19, 2026 3:02:51 PM
+ *
+ */
+public class PageIteratorTest extends TestCase {
+
+	private static final int PAGES = 200;
+
+	private static final int PAGE_SIZE = 10;
+
+	public void testParallelStreamDoesNotFetchAhead() {
+		final AtomicInteger fetched = new AtomicInteger();
+		PageIterator<Integer> iterator = new PageIterator<Integer>(
+				new PageIterator.PageFetcher<Integer>() {
+					@Override
+					public PagedList<Integer> fetch(int pageIndex, int pageSize) {
+						fetched.incrementAndGet();
+						List<Integer> items = new ArrayList<Integer>(pageSize);
+						for (int i = 0; i < pageSize; i++) {
+							items.add(pageIndex * pageSize + i);
+						}
+						return new PagedList<Integer>(items, pageIndex, pageSize, PAGES * PAGE_SIZE);
+					}
+				}, PAGE_SIZE);
+		final AtomicInteger consumed = new AtomicInteger();
+		final AtomicInteger maxAhead = new AtomicInteger();
+		long count = StreamSupport.stream(iterator.spliterator(), true).peek(
+				new Consumer<Integer>() {
+					@Override
+					public void accept(Integer item) {
+						int pagesConsumed = consumed.getAndIncrement() / PAGE_SIZE;
+						int ahead = fetched.get() - pagesConsumed;
+						if (ahead > maxAhead.get()) {
+							maxAhead.set(ahead);
+						}
+					}
+				}).count();
+		assertEquals(PAGES * PAGE_SIZE, count);
+		assertEquals(PAGES, fetched.get());
+		assertTrue("pages held: " + maxAhead.get(), maxAhead.get() <= 2);
+	}
+
+	public void testSpliteratorDoesNotSplit() {
+		PageIterator<Integer> iterator = new PageIterator<Integer>(
+				new PageIterator.PageFetcher<Integer>() {
+					@Override
+					public PagedList<Integer> fetch(int pageIndex, int pageSize) {
+						throw new AssertionError("fetched while splitting");
+					}
+				}, PAGE_SIZE);
+		assertNull(iterator.spliterator().trySplit());
+	}
+}
@@ -0,0 +1,210 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import junit.framework.TestCase;
+
+/**
+ * {@link PagedList}的Java序列化与{@link PagedListCodec}、{@link CompactPagedList}的紧凑格式.
+ * @since zengqingmeng @ Oct 19, 2026 10:21:06 AM
+ *
+ */
+public class PagedListTest extends TestCase {
+
+	/**
+	 * 改动前的PagedList序列化的<code>new PagedList(["a", "b"], 1, 2, 5)</code>.
+	 */
+	private static final String LEGACY_BYTES = "rO0ABXNyABtjb20ubHVva2EuY29tbW9ucy5QYWdlZExpc3Q33zQiXM7ZMQIAC0kAB2VuZFBh"
+			+ "Z2VJAAhuZXh0UGFnZUkACXBhZ2VJbmRleEkACHBhZ2VTaXplSQAJcGFnZVRvdGFsSQAIcHJldlBhZ2VJAAlzdGFydFBh"
+			+ "Z2VJAARzdGVwSQANdGhpc1BhZ2VUb3RhbEkADnRvdGFsSXRlbUNvdW50TAAJcGFnZUl0ZW1zdAAQTGphdmEvdXRpbC9M"
+			+ "aXN0O3hwAAAAAgAAAAIAAAABAAAAAgAAAAMAAAAAAAAAAAAAAAoAAAACAAAABXNyABNqYXZhLnV0aWwuQXJyYXlMaXN0"
+			+ "eIHSHZnHYZ0DAAFJAARzaXpleHAAAAACdwQAAAACdAABYXQAAWJ4";
+
+	public void testReadLegacySerializedForm() throws Exception {
+		PagedList<?> read = (PagedList<?>) deserialize(Base64.getDecoder().decode(LEGACY_BYTES));
+		assertSamePage(new PagedList<String>(Arrays.asList("a", "b"), 1, 2, 5), read);
+		assertFalse(read.isTotalEstimated());
+	}
+
+	public void testJavaSerializationRoundTrip() throws Exception {
+		PagedList<String> page = page(false);
+		PagedList<?> read = (PagedList<?>) deserialize(serialize(page));
+		assertSamePage(page, read);
+
+		PagedList<String> estimated = page(true);
+		read = (PagedList<?>) deserialize(serialize(estimated));
+		assertSamePage(estimated, read);
+		assertTrue(read.isTotalEstimated());
+	}
+
+	public void testCodecRoundTrip() {
+		PagedListCodec<String> codec = new PagedListCodec<String>(PagedListCodec.STRING);
+		for (PagedList<String> page : pages()) {
+			assertSamePage(page, codec.fromBytes(codec.toBytes(page)));
+		}
+		PagedListCodec<Long> longCodec = new PagedListCodec<Long>(PagedListCodec.LONG);
+		PagedList<Long> longs = new PagedList<Long>(Arrays.asList(-1L, 0L, Long.MAX_VALUE), 3, 3, 100);
+		assertSamePage(longs, longCodec.fromBytes(longCodec.toBytes(longs)));
+	}
+
+	public void testCompactPagedListRoundTrip() throws Exception {
+		for (PagedList<String> page : pages()) {
+			CompactPagedList<?> read = (CompactPagedList<?>) deserialize(
+					serialize(new CompactPagedList<String>(page)));
+			assertSamePage(page, read.getPagedList());
+		}
+	}
+
+	public void testCodecRoundTripOfSubclass() {
+		PagedListCodec<String> codec = new PagedListCodec<String>(PagedListCodec.STRING,
+				new Supplier<TaggedPagedList>() {
+					@Override
+					public TaggedPagedList get() {
+						return new TaggedPagedList();
+					}
+				});
+		TaggedPagedList page = new TaggedPagedList(Arrays.asList("a", "b"), "tag");
+		PagedList<String> read = codec.fromBytes(codec.toBytes(page));
+		assertSamePage(page, read);
+		assertEquals("tag", ((TaggedPagedList) read).tag);
+		try {
+			new CompactPagedList<String>(page);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// 读取时不能还原子类
+		}
+	}
+
+	public void testEstimatedTotal() {
+		List<String> full = page(false).getPageItems();
+		// 不满一页时按实际值修正
+		PagedList<String> page = new PagedList<String>(full.subList(0, 3), 2, 20, 1000, true);
+		assertEquals(43, page.getTotalItemCount());
+		assertFalse(page.isTotalEstimated());
+		assertTrue(page.isLastPage());
+		// 满一页且估计值偏小时保留下一页
+		page = new PagedList<String>(full, 2, 20, 10, true);
+		assertEquals(61, page.getTotalItemCount());
+		assertTrue(page.isTotalEstimated());
+		assertFalse(page.isLastPage());
+		// 空页: 已超出末尾
+		page = new PagedList<String>(Collections.<String> emptyList(), 5, 10, 1000, true);
+		assertEquals(50, page.getTotalItemCount());
+		assertTrue(page.isTotalEstimated());
+		assertTrue(page.isLastPage());
+		page = new PagedList<String>(Collections.<String> emptyList(), 5, 10, 20, true);
+		assertEquals(20, page.getTotalItemCount());
+		assertTrue(page.isLastPage());
+		page = new PagedList<String>(Collections.<String> emptyList(), 0, 10, 20, true);
+		assertEquals(0, page.getTotalItemCount());
+		assertFalse(page.isTotalEstimated());
+		assertTrue(page.isLastPage());
+	}
+
+	public void testCodecRejectsIllegalBytes() {
+		PagedListCodec<String> codec = new PagedListCodec<String>(PagedListCodec.STRING);
+		try {
+			codec.fromBytes(new byte[] { 100 });
+			fail();
+		} catch (IllegalArgumentException e) {
+			// 版本不支持
+		}
+		byte[] bytes = codec.toBytes(page(false));
+		try {
+			codec.fromBytes(Arrays.copyOf(bytes, bytes.length - 1));
+			fail();
+		} catch (IllegalArgumentException e) {
+			// 数据不完整
+		}
+	}
+
+	/**
+	 * 覆盖读写方法、多写出一个字段的子类.
+	 */
+	private static final class TaggedPagedList extends PagedList<String> {
+		private static final long serialVersionUID = 1L;
+
+		private String tag;
+
+		TaggedPagedList() {
+		}
+
+		TaggedPagedList(List<String> pageItems, String tag) {
+			super(pageItems, 0, 10, pageItems.size());
+			this.tag = tag;
+		}
+
+		@Override
+		protected void writeExternal(DataOutput out, PagedListCodec.ElementCodec<? super String> elementCodec)
+				throws IOException {
+			super.writeExternal(out, elementCodec);
+			out.writeUTF(tag);
+		}
+
+		@Override
+		protected void readExternal(DataInput in, PagedListCodec.ElementCodec<? extends String> elementCodec)
+				throws IOException {
+			super.readExternal(in, elementCodec);
+			tag = in.readUTF();
+		}
+	}
+
+	private static PagedList<String> page(boolean totalEstimated) {
+		List<String> items = new ArrayList<String>();
+		for (int i = 0; i < 20; i++) {
+			items.add("item-" + i);
+		}
+		return new PagedList<String>(items, 37, 20, 123456, totalEstimated);
+	}
+
+	private static List<PagedList<String>> pages() {
+		List<PagedList<String>> pages = new ArrayList<PagedList<String>>();
+		pages.add(page(false));
+		pages.add(page(true));
+		pages.add(new PagedList<String>(Arrays.asList("中文", null, ""), 0, 5, 3));
+		pages.add(new PagedList<String>(0, 10, 0, null, 10));
+		return pages;
+	}
+
+	private static void assertSamePage(PagedList<?> expected, PagedList<?> actual) {
+		assertEquals(expected.getPageItems(), actual.getPageItems());
+		assertEquals(expected.getPageIndex(), actual.getPageIndex());
+		assertEquals(expected.getPageSize(), actual.getPageSize());
+		assertEquals(expected.getTotalItemCount(), actual.getTotalItemCount());
+		assertEquals(expected.getThisPageTotal(), actual.getThisPageTotal());
+		assertEquals(expected.getPageTotal(), actual.getPageTotal());
+		assertEquals(expected.getPrevPage(), actual.getPrevPage());
+		assertEquals(expected.getNextPage(), actual.getNextPage());
+		assertEquals(expected.getStep(), actual.getStep());
+		assertEquals(expected.getStartPage(), actual.getStartPage());
+		assertEquals(expected.getEndPage(), actual.getEndPage());
+		assertEquals(expected.isTotalEstimated(), actual.isTotalEstimated());
+	}
+
+	private static byte[] serialize(Object object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(object);
+		out.close();
+		return bytes.toByteArray();
+	}
+
+	private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		return new ObjectInputStream(new ByteArrayInputStream(bytes)).readObject();
+	}
+}
@@ -0,0 +1,37 @@
+/**
+ * Title:		luoka
+ */
+package com.luoka.commons;
+
+import java.net.URL;
+
+import junit.framework.TestCase;
+
+/**
+ * {@link UrlUtil}中以{@link URL}为参数的方法保持原来的结果.
+ * @since zengqingmeng @ Oct 19, 2026 2:14:05 PM
+ *
+ */
+public class UrlUtilTest extends TestCase {
+
+	public void testGetHostOfUrl() throws Exception {
+		assertEquals("", UrlUtil.getHost(new URL("file:///etc/passwd")));
+		assertEquals("", UrlUtil.getHost("file:///etc/passwd"));
+		assertEquals("www.a.com:8080", UrlUtil.getHost(new URL("http://www.a.com:8080/x")));
+		assertEquals("h.com", UrlUtil.getHost(new URL("http://u:p@h.com:81/a")));
+	}
+
+	public void testGetRemoteDirOfUrl() throws Exception {
+		assertEquals("#frag", UrlUtil.getRemoteDir(new URL("http://www.a.com#frag")));
+		assertEquals("/a", UrlUtil.getRemoteDir(new URL("http://h.com/a?b#c")));
+	}
+
+	public void testUserInfoOfUrl() throws Exception {
+		URL url = new URL("ftp://u:p:q@h/x");
+		assertEquals("u", UrlUtil.getUserName(url));
+		assertEquals("p:q", UrlUtil.getPassword(url));
+		url = new URL("http://u@h.com:81/");
+		assertNull(UrlUtil.getUserName(url));
+		assertNull(UrlUtil.getPassword(url));
+	}
+}